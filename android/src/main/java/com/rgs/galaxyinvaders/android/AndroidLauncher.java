@@ -5,6 +5,9 @@ import android.os.Bundle;
 import com.badlogic.gdx.backends.android.AndroidApplication;
 import com.badlogic.gdx.backends.android.AndroidApplicationConfiguration;
 import com.rgs.galaxyinvaders.GalaxyInvadersGame;
+import com.rgs.galaxyinvaders.threads.SimThreadDriver;
+import com.rgs.galaxyinvaders.world.ChunkRunner;
+import com.rgs.galaxyinvaders.world.SimDriver;
 
 /** Launches the Android application. */
 public class AndroidLauncher extends AndroidApplication {
@@ -13,6 +16,8 @@ public class AndroidLauncher extends AndroidApplication {
         super.onCreate(savedInstanceState);
         AndroidApplicationConfiguration configuration = new AndroidApplicationConfiguration();
         configuration.useImmersiveMode = true; // Recommended, but not required.
-        initialize(new GalaxyInvadersGame(), configuration);
+        // Tick on a second core so the simulation overlaps drawing instead of preceding it
+        SimDriver driver = Runtime.getRuntime().availableProcessors() > 1 ? new SimThreadDriver() : SimDriver.INLINE;
+        initialize(new GalaxyInvadersGame(ChunkRunner.SERIAL, driver), configuration);
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.rgs.galaxyinvaders.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * World ticks during a boss spiral phase. Enemy bullets are held below, at and beyond
+ * {@code Constants.BOSS_BULLET_LIMIT} (60) to cover both the firing path and the capped path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BossSpiralBenchmark {
+    @Param({"3", "7"}) public int bossLevel;
+    @Param({"0", "60", "120"}) public int enemyBullets;
+
+    private Scenario scenario;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scenario = new Scenario(0, 0, enemyBullets).withSpiralBoss(bossLevel);
+    }
+
+    @Benchmark
+    public int update() {
+        scenario.world.update(Scenario.STEP);
+        scenario.topUp();
+        return scenario.world.getEnemyBullets().size;
+    }
+}
@@ -0,0 +1,78 @@
+package com.rgs.galaxyinvaders.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.entities.Hitbox;
+import com.rgs.galaxyinvaders.world.BulletStore;
+import com.rgs.galaxyinvaders.world.SimRandom;
+import com.rgs.galaxyinvaders.world.SpatialHashGrid;
+
+/** Bullets-vs-ships pass on its own: spatial hash broad-phase against the brute-force pair loop. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    @Param({"50", "200"}) public int ships;
+    @Param({"64", "256", "1024"}) public int bullets;
+
+    private float[] sx, sy;
+    private static final float SHIP = 36f;
+    private final BulletStore store = new BulletStore(64);
+    private final SpatialHashGrid grid = new SpatialHashGrid(Constants.W, Constants.H, 32f);
+    private final IntArray candidates = new IntArray();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimRandom random = new SimRandom(Scenario.SEED);
+        sx = new float[ships];
+        sy = new float[ships];
+        for (int i = 0; i < ships; i++) { sx[i] = random.range(0f, Constants.W - SHIP); sy[i] = random.range(0f, Constants.H - SHIP); }
+        store.clear();
+        for (int i = 0; i < bullets; i++) store.add(random.range(0f, Constants.W), random.range(0f, Constants.H), 7f, 7f, 0f, 420f);
+    }
+
+    @Benchmark
+    public int spatialHash() {
+        grid.clear();
+        for (int i = 0; i < ships; i++) grid.insert(i, sx[i], sy[i], SHIP, SHIP);
+        int hits = 0;
+        for (int b = 0; b < store.size; b++) {
+            candidates.clear();
+            grid.query(store.x[b], store.y[b], store.w[b], store.h[b], candidates);
+            for (int k = 0; k < candidates.size; k++) {
+                int j = candidates.get(k);
+                if (Hitbox.overlaps(store.hitX(b), store.hitY(b), store.hitW(b), store.hitH(b), sx[j], sy[j], SHIP, SHIP)) hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int bruteForce() {
+        int hits = 0;
+        for (int b = 0; b < store.size; b++) {
+            for (int j = 0; j < ships; j++) {
+                if (Hitbox.overlaps(store.hitX(b), store.hitY(b), store.hitW(b), store.hitH(b), sx[j], sy[j], SHIP, SHIP)) hits++;
+            }
+        }
+        return hits;
+    }
+}
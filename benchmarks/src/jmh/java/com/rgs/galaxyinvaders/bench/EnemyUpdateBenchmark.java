@@ -0,0 +1,83 @@
+package com.rgs.galaxyinvaders.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.world.EnemyStore;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.ShipMetrics;
+import com.rgs.galaxyinvaders.world.SimRandom;
+
+/**
+ * Moving a wave one tick and checking who may fire: the old {@code Array<Enemy>} path (virtual update,
+ * switch per enemy, countdown timers) against EnemyStore's per-type loops and next-fire times.
+ * Both get the same mix of types and positions; enemies wrap back to the top so the load never changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyUpdateBenchmark {
+    @Param({"200", "2000", "8000"}) public int enemies;
+
+    private GameWorld world;
+    private final Array<ObjectEnemy> objects = new Array<>();
+    private EnemyStore store;
+    private float time;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new GameWorld(new ShipMetrics(), Scenario.SEED);
+        world.getEnemies().clear();
+        SimRandom random = new SimRandom(Scenario.SEED);
+        for (int i = 0; i < enemies; i++) {
+            int type = random.range(0, EnemyStore.TYPES - 1);
+            float x = random.range(40f, Constants.W - 40f), y = random.range(0f, Constants.H);
+            objects.add(new ObjectEnemy(world).init(-1, 1f, type, x, y, 6, 1.5f, 1.5f));
+            world.spawnEnemy(type, -1, x, y, 6, 1.5f, 1.5f);
+        }
+        store = world.getEnemies();
+    }
+
+    @Benchmark
+    public int objects() {
+        int ready = 0;
+        for (int i = 0; i < objects.size; i++) {
+            ObjectEnemy e = objects.get(i);
+            e.savePrevious();
+            e.update(Scenario.STEP);
+            if (e.readyToShoot()) { e.resetShootTimer(); ready++; }
+            if (e.getY() + e.getH() < 0) e.init(-1, 1f, i % EnemyStore.TYPES, e.centerX(), Constants.H, 6, 1.5f, 1.5f);
+        }
+        return ready;
+    }
+
+    @Benchmark
+    public int kernels() {
+        final EnemyStore es = store;
+        time += Scenario.STEP;
+        es.move(Scenario.STEP, world.getPlayer().centerX());
+        int ready = 0;
+        for (int i = 0; i < es.size; i++) {
+            if (time >= es.nextFire[i]) { es.nextFire[i] = time + es.reload[i]; ready++; }
+            if (es.y[i] + es.h[i] < 0) es.y[i] = Constants.H;
+        }
+        return ready;
+    }
+}
@@ -1,39 +1,50 @@
-package com.rgs.galaxyinvaders.entities;
+package com.rgs.galaxyinvaders.bench;
 
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Pool;
+import com.rgs.galaxyinvaders.entities.GameObject;
 import com.rgs.galaxyinvaders.world.GameWorld;
 
-public class Enemy extends GameObject {
+/**
+ * The enemy as it was before EnemyStore: one object per enemy, a switch on type every update and the
+ * player read through the world per chaser. Kept only as the baseline for {@link EnemyUpdateBenchmark}.
+ */
+final class ObjectEnemy extends GameObject implements Pool.Poolable {
     private final GameWorld world;
-    private final int type; // 0 sine, 1 shooter, 2 chaser
+    private int type; // 0 sine, 1 shooter, 2 chaser
+    private int variant; // sprite variant, see ShipMetrics
     private int hp = 1;
     private float t = 0f;
     private float speed = 60f;
-    private float shootTimer = MathUtils.random(0.3f, 2f);
+    private float shootTimer = 0f;
     private float reload = 1.1f;
     private float fireChance = 0.03f;
     private int scoreValue = 20;
     private float hitTimer = 0f;
 
-    public Enemy(GameWorld world, TextureRegion sprite, int type, float cx, float y, int wave, float diffEnemySpeed, float diffEnemyFire) {
-        this.world = world;
+    ObjectEnemy(GameWorld world) { this.world = world; }
+
+    public ObjectEnemy init(int variant, float aspect, int type, float cx, float y, int wave, float diffEnemySpeed, float diffEnemyFire) {
         this.type = type;
-        this.sprite = sprite;
-        float targetW = 28f;
-        float scale = targetW / sprite.getRegionWidth();
-        this.w = sprite.getRegionWidth() * scale;
-        this.h = sprite.getRegionHeight() * scale;
+        this.variant = variant;
+        this.w = 28f;
+        this.h = w * aspect;
         this.x = cx - w/2f;
         this.y = y;
+        savePrevious();
 
+        this.shootTimer = world.random().range(0.3f, 2f);
         this.hp = (type==1 && wave>6) ? 2 : 1;
         this.speed = (45f + wave * 3f) * diffEnemySpeed;
         this.reload = (1.1f - Math.min(0.5f, wave * 0.02f)) / Math.max(0.6f, diffEnemyFire);
         this.fireChance = (0.03f + wave * 0.0015f) * diffEnemyFire;
         this.scoreValue = 20 + wave * 3;
         if (type==2) this.reload *= 0.85f;
+        return this;
+    }
+
+    @Override public void reset() {
+        t = 0f; hitTimer = 0f;
     }
 
     @Override public void update(float dt) {
@@ -47,22 +58,15 @@ public class Enemy extends GameObject {
         x = MathUtils.clamp(x, 0, 800f - w);
     }
 
-    @Override public void render(SpriteBatch sb) {
-        super.render(sb);
-        if (hitTimer > 0f) {
-            float a = Math.min(0.6f, hitTimer / 0.12f);
-            sb.setColor(1f, 0f, 0f, a);
-            sb.draw(sprite, x, y, w, h);
-            sb.setColor(com.badlogic.gdx.graphics.Color.WHITE);
-        }
-    }
-
     public boolean readyToShoot() { return shootTimer <= 0f; }
     public void resetShootTimer() { shootTimer = reload; }
 
     public void damage(int d) { hp -= d; hitTimer = 0.12f; }
     public boolean isDead() { return hp <= 0; }
+    public void kill() { hp = 0; }
 
     public float getFireChance() { return fireChance; }
     public int getScoreValue() { return scoreValue; }
+    public int getVariant() { return variant; }
+    public float getHitTimer() { return hitTimer; }
 }
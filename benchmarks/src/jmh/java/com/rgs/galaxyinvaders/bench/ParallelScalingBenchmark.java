@@ -0,0 +1,56 @@
+package com.rgs.galaxyinvaders.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rgs.galaxyinvaders.threads.ForkJoinChunkRunner;
+
+/**
+ * A bullet hell tick (bullet integrate, enemy move, bullet-vs-player overlap) as the sim thread count grows.
+ * threads=1 runs the same chunked code inline, so it is the serial baseline; speedup is only meaningful on a
+ * machine with at least that many free cores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelScalingBenchmark {
+    @Param({"1", "2", "4", "8"}) public int threads;
+    @Param({"10000", "40000"}) public int bullets;
+
+    private Scenario scenario;
+    private ForkJoinChunkRunner runner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scenario = new Scenario(8000, 16, bullets);
+        scenario.world.setBulletHell(true);
+        runner = new ForkJoinChunkRunner(threads);
+        scenario.world.setChunkRunner(runner);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() { runner.shutdown(); }
+
+    @Benchmark
+    public int update() {
+        scenario.world.update(Scenario.STEP);
+        scenario.topUp();
+        return scenario.world.getScore();
+    }
+}
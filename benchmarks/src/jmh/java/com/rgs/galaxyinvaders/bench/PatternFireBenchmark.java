@@ -0,0 +1,56 @@
+package com.rgs.galaxyinvaders.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.pattern.BossPatterns;
+import com.rgs.galaxyinvaders.pattern.BossScript;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.ShipMetrics;
+
+/**
+ * One full burst of each compiled emitter type, {@code Constants.BOSS_BULLET_LIMIT} bullets wide, into an
+ * emptied bullet store. The gc profiler should report ~0 B/op: firing is a table walk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternFireBenchmark {
+    @Param({"aimed", "fan", "ring"}) public String emitter;
+
+    private GameWorld world;
+    private BossScript.Phase phase;
+    private float t;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = new GameWorld(new ShipMetrics(), Scenario.SEED);
+        phase = BossPatterns.parse("{ \"bosses\": [ { \"level\": 1, \"phases\": [ { \"interval\": 1, \"emit\": [ { \"type\": \"" + emitter
+            + "\", \"count\": " + Constants.BOSS_BULLET_LIMIT + ", \"speed\": 150, \"lateral\": 150, \"from\": 45, \"to\": 135, \"spin\": 90 } ] } ] } ] }")
+            .forLevel(1).phaseFor(1f);
+    }
+
+    @Benchmark
+    public int fire() {
+        world.getEnemyBullets().clear();
+        t += Scenario.STEP;
+        phase.fire(world, Constants.W / 2f, Constants.H - 100f, t);
+        return world.getEnemyBullets().size;
+    }
+}
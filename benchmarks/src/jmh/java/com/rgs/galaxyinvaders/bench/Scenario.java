@@ -0,0 +1,68 @@
+package com.rgs.galaxyinvaders.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.badlogic.gdx.utils.StreamUtils;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.pattern.BossPatterns;
+import com.rgs.galaxyinvaders.world.BulletStore;
+import com.rgs.galaxyinvaders.world.EnemyStore;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.ShipMetrics;
+import com.rgs.galaxyinvaders.world.SimRandom;
+
+/**
+ * A headless world held at fixed entity counts. Whatever left the screen or died during the last
+ * tick is replaced by {@link #topUp()}, so every measured tick sees the same load.
+ * The player is invulnerable so the session never ends mid-measurement.
+ */
+final class Scenario {
+    static final long SEED = 0x5EEDL;
+    static final float STEP = 1f / Constants.SIM_HZ;
+    static final BossPatterns PATTERNS = loadPatterns();
+
+    final GameWorld world;
+    private final ShipMetrics metrics = new ShipMetrics();
+    private final SimRandom random = new SimRandom(SEED ^ 0x9E3779B97F4A7C15L);
+    private final int enemies, playerBullets, enemyBullets;
+
+    Scenario(int enemies, int playerBullets, int enemyBullets) {
+        this.enemies = enemies;
+        this.playerBullets = playerBullets;
+        this.enemyBullets = enemyBullets;
+        world = new GameWorld(metrics, SEED);
+        world.setBossPatterns(PATTERNS);
+        world.setInvulnerable(true);
+        world.getEnemies().clear(); // drop the opening wave; topUp() refills to the exact count
+        topUp();
+    }
+
+    /** Puts a boss of {@code level} on screen, already below a third of its HP (spiral phase from level 3). */
+    Scenario withSpiralBoss(int level) {
+        world.spawnBoss(level).damage(Math.round(world.getBoss().getMaxHp() * 0.7f));
+        return this;
+    }
+
+    /** The game's own script, copied onto the JMH classpath by the build. */
+    static BossPatterns loadPatterns() {
+        try (InputStream in = Scenario.class.getClassLoader().getResourceAsStream(BossPatterns.FILE)) {
+            if (in == null) throw new IllegalStateException("Missing classpath resource " + BossPatterns.FILE);
+            return BossPatterns.parse(StreamUtils.copyStreamToString(in));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    void topUp() {
+        EnemyStore live = world.getEnemies();
+        for (int i = live.size; i < enemies; i++) {
+            world.spawnEnemy(random.range(0, EnemyStore.TYPES - 1), -1,
+                random.range(40f, Constants.W - 40f), random.range(Constants.H * 0.3f, Constants.H - 40f), 3, 1f, 1f);
+        }
+        BulletStore pb = world.getPlayerBullets();
+        while (pb.size < playerBullets) world.firePlayer(random.range(0f, Constants.W), random.range(0f, Constants.H - 10f));
+        BulletStore eb = world.getEnemyBullets();
+        while (eb.size < enemyBullets) world.fireBoss(random.range(0f, Constants.W), random.range(10f, Constants.H), random.range(-150f, 150f), -160f);
+    }
+}
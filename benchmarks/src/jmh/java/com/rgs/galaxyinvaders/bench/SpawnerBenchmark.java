@@ -0,0 +1,48 @@
+package com.rgs.galaxyinvaders.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.ShipMetrics;
+import com.rgs.galaxyinvaders.world.Spawner;
+
+/** Spawning a large wave into the warm enemy store, then clearing it. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpawnerBenchmark {
+    @Param({"50", "400"}) public int waveSize;
+
+    private final ShipMetrics metrics = new ShipMetrics();
+    private GameWorld world;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        metrics.enemyAspects.addAll(1f, 0.8f, 1.2f);
+        world = new GameWorld(metrics, Scenario.SEED);
+    }
+
+    @Benchmark
+    public int spawnWave() {
+        Spawner.spawnEnemies(world, metrics, waveSize, 6, 1.5f, 1.5f);
+        int spawned = world.getEnemies().size;
+        world.getEnemies().clear();
+        return spawned;
+    }
+}
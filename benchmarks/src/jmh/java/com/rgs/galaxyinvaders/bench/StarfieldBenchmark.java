@@ -0,0 +1,40 @@
+package com.rgs.galaxyinvaders.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.rgs.galaxyinvaders.fx.Starfield;
+
+/** CPU side of the background: one {@code Starfield.update} at frame rate (stars move in the shader). Needs no GL context. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StarfieldBenchmark {
+    @Param({"220", "2000", "50000"}) public int stars;
+
+    private Starfield starfield;
+
+    @Setup(Level.Trial)
+    public void setUp() { starfield = new Starfield(stars, Scenario.SEED); }
+
+    @Benchmark
+    public Starfield update() {
+        starfield.update(1f / 60f);
+        return starfield;
+    }
+}
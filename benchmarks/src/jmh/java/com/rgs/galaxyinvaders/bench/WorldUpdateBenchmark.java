@@ -0,0 +1,48 @@
+package com.rgs.galaxyinvaders.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One {@code GameWorld.update()} tick with N enemies, M player bullets and K enemy bullets on screen.
+ * {@code spatialHash=false} runs the brute-force broad-phase for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldUpdateBenchmark {
+    @Param({"25", "100", "400"}) public int enemies;
+    @Param({"16", "128"}) public int playerBullets;
+    @Param({"30", "120"}) public int enemyBullets;
+    @Param({"true", "false"}) public boolean spatialHash;
+
+    private Scenario scenario;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scenario = new Scenario(enemies, playerBullets, enemyBullets);
+        scenario.world.setSpatialHashEnabled(spatialHash);
+    }
+
+    @Benchmark
+    public int update() {
+        scenario.world.update(Scenario.STEP);
+        scenario.topUp();
+        return scenario.world.getScore();
+    }
+}
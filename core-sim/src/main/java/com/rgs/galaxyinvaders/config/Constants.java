@@ -0,0 +1,29 @@
+package com.rgs.galaxyinvaders.config;
+
+public final class Constants {
+    private Constants() {}
+
+    // Virtual world size
+    public static final float W = 800f;
+    public static final float H = 480f;
+
+    // Simulation clock: fixed steps per second, and how many steps one rendered frame may run
+    public static final float SIM_HZ              = 120f;
+    public static final int   MAX_STEPS_PER_FRAME = 8;
+
+    // Gameplay knobs
+    public static final int   BOSS_BULLET_LIMIT   = 60;
+    public static final float BULLET_HITBOX_SCALE = 0.60f;
+    public static final float BOSS_MISS_DEG       = 10f;
+    public static final float ATTACK_SLOW_FACTOR  = 1.50f;
+
+    // Bullet hell tier: boss bullet cap (its boss scripts are the "bulletHell" list in boss-patterns.json)
+    public static final int   BULLET_HELL_BULLET_LIMIT = 16000;
+
+    // Chunked update: loops over this many entities or more are split into SIM_CHUNK-sized jobs (see ChunkRunner)
+    public static final int   PARALLEL_THRESHOLD = 4096;
+    public static final int   SIM_CHUNK          = 1024;
+
+    public static final int   BOSS_HIT_SCORE      = 10;
+    public static final float BOSS_HIT_POWERUP_CHANCE = 0.20f;
+}
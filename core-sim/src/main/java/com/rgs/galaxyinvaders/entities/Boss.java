@@ -0,0 +1,65 @@
+package com.rgs.galaxyinvaders.entities;
+
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.pattern.BossScript;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.ShipMetrics;
+
+public class Boss extends GameObject {
+    private final GameWorld world;
+    private final BossScript script;
+    private int hp, maxHp;
+    private float t = 0f, dir = 1f;
+    private float fireTimer = 0f;
+    private float hitTimer = 0f;
+    private final float diffBossFire;
+
+    public Boss(GameWorld world, ShipMetrics metrics, BossScript script, float diffBossHP, float diffBossFire) {
+        this.world = world;
+        this.script = script;
+        this.diffBossFire = diffBossFire;
+
+        this.w = 140f;
+        this.h = w * metrics.bossAspect;
+        this.x = (Constants.W / 2f) - 60f;
+        this.y = Constants.H - 120f;
+        savePrevious();
+
+        // Base HP (halved) then scaled
+        int base = 120 + 30;
+        this.hp = Math.max(1, Math.round((base / 2f) * diffBossHP));
+        this.maxHp = this.hp;
+    }
+
+    @Override
+    public void update(float dt) {
+        t += dt;
+        if (hitTimer > 0f) hitTimer -= dt;
+
+        // Simple horizontal sweep
+        x += dir * 100f * dt;
+        if (x < 20 || x + w > Constants.W - 20) dir *= -1f;
+
+        // Obey global bullet cap
+        if (world.bossBulletCapReached()) {
+            fireTimer = Math.max(fireTimer, 0.15f);
+            fireTimer -= dt;
+            return;
+        }
+
+        // Attack comes from the level's script; the phase is picked by remaining HP
+        fireTimer -= dt;
+        if (fireTimer <= 0f) {
+            BossScript.Phase phase = script.phaseFor((float) hp / maxHp);
+            phase.fire(world, centerX(), y, t);
+            fireTimer = phase.getInterval() * Constants.ATTACK_SLOW_FACTOR / Math.max(1f, diffBossFire);
+        }
+    }
+
+    // --- API ---
+    public void damage(int d) { hp -= d; hitTimer = 0.12f; }
+    public int getLevel() { return script.getLevel(); }
+    public int getHp() { return hp; }
+    public int getMaxHp() { return maxHp; }
+    public float getHitTimer() { return hitTimer; }
+}
@@ -0,0 +1,25 @@
+package com.rgs.galaxyinvaders.entities;
+
+public abstract class GameObject {
+    protected float x,y,w,h;
+    protected float prevX, prevY; // position at the start of the current step, for render interpolation
+
+    public abstract void update(float dt);
+    public boolean overlaps(float ox, float oy, float ow, float oh) { return Hitbox.overlaps(x, y, w, h, ox, oy, ow, oh); }
+    public boolean overlaps(GameObject o) { return overlaps(o.x, o.y, o.w, o.h); }
+
+    /** Remembers the current position as the step's starting point; the world calls this before each step. */
+    public void savePrevious() { prevX = x; prevY = y; }
+    public float lerpX(float alpha) { return prevX + (x - prevX) * alpha; }
+    public float lerpY(float alpha) { return prevY + (y - prevY) * alpha; }
+
+    // helpers
+    public float centerX() { return x + w/2f; }
+    public float centerY() { return y + h/2f; }
+    public float getX() { return x; }
+    public float getY() { return y; }
+    public float getW() { return w; }
+    public float getH() { return h; }
+    public float getPrevX() { return prevX; }
+    public float getPrevY() { return prevY; }
+}
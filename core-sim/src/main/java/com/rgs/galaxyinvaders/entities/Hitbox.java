@@ -0,0 +1,10 @@
+package com.rgs.galaxyinvaders.entities;
+
+/** Allocation-free AABB test on primitive fields (same edge rules as {@code Rectangle.overlaps}). */
+public final class Hitbox {
+    private Hitbox() {}
+
+    public static boolean overlaps(float ax, float ay, float aw, float ah, float bx, float by, float bw, float bh) {
+        return ax < bx + bw && ax + aw > bx && ay < by + bh && ay + ah > by;
+    }
+}
@@ -0,0 +1,24 @@
+package com.rgs.galaxyinvaders.entities;
+
+import com.badlogic.gdx.utils.Pool;
+
+public class PowerUp implements Pool.Poolable {
+    private PowerUpType type;
+    private float x, y, prevY, size = 14f, vy = -65f;
+
+    /** Pooled: obtain from the world's powerup pool and configure with {@link #set}. */
+    public PowerUp set(PowerUpType t, float x, float y){ this.type=t; this.x=x; this.y=y; this.prevY=y; return this; }
+
+    @Override public void reset(){ type = null; }
+
+    public void update(float dt){ prevY = y; y += vy * dt; }
+    public void apply(Player p){ p.applyPower(type); }
+
+    public boolean overlaps(GameObject o){ return o.overlaps(x - size, y - size, size*2, size*2); }
+    public PowerUpType getType(){ return type; }
+    public float getX(){ return x; }
+    public float getY(){ return y; }
+    public float lerpY(float alpha){ return prevY + (y - prevY) * alpha; }
+    public float getPrevY(){ return prevY; }
+    public float getSize(){ return size; }
+}
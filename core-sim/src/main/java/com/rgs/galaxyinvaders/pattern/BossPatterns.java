@@ -0,0 +1,95 @@
+package com.rgs.galaxyinvaders.pattern;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.rgs.galaxyinvaders.config.Constants;
+
+/**
+ * Boss attack scripts, one per level, parsed from {@link #FILE} in the assets. Parsing compiles every
+ * emitter into its direction tables, so nothing is computed or allocated while a boss fires.
+ * A boss beyond the last scripted level reuses the highest script below it. An optional {@code "bulletHell"}
+ * list, in the same format, replaces the scripts in the bullet hell tier (see GameWorld#setBulletHell).
+ * <p>
+ * Format (comments allowed):
+ * <pre>
+ * { "bosses": [ { "level": 1, "phases": [
+ *     { "above": 0.66, "interval": 1.4, "emit": [ { "type": "aimed", "count": 2, "speed": 140, "lateral": 120 } ] },
+ *     { "above": 0,    "interval": 1.0, "emit": [ { "type": "ring", "count": 12, "speed": 150, "spin": 90, "lateral": 150 } ] } ] } ] }
+ * </pre>
+ * Emitter keys: {@code type} (aimed | fan | ring), {@code count}, {@code speed}, {@code lateral} (optional for
+ * downward fans only, see {@link Emitter}), {@code from}/{@code to} (fan arc, or a ring's start angle), {@code spin} (ring deg/s) and
+ * {@code miss} (aimed, +-deg, defaults to {@link Constants#BOSS_MISS_DEG}). Phases need descending {@code above}.
+ */
+public final class BossPatterns {
+    public static final String FILE = "boss-patterns.json";
+
+    private final Array<BossScript> scripts = new Array<>(); // ascending level
+    private final Array<BossScript> bulletHellScripts = new Array<>(); // ascending level; empty = use scripts
+
+    private BossPatterns() {}
+
+    public static BossPatterns parse(String json) {
+        JsonValue root = new JsonReader().parse(json);
+        BossPatterns patterns = new BossPatterns();
+        JsonValue bosses = root.get("bosses");
+        if (bosses == null || bosses.size == 0) throw new IllegalArgumentException("Boss patterns: no \"bosses\"");
+        parseScripts(bosses, patterns.scripts);
+        JsonValue bulletHell = root.get("bulletHell");
+        if (bulletHell != null) parseScripts(bulletHell, patterns.bulletHellScripts);
+        return patterns;
+    }
+
+    private static void parseScripts(JsonValue bosses, Array<BossScript> into) {
+        for (JsonValue boss = bosses.child; boss != null; boss = boss.next) {
+            int level = boss.getInt("level");
+            JsonValue phases = boss.get("phases");
+            BossScript.Phase[] compiled = new BossScript.Phase[phases != null ? phases.size : 0];
+            float previous = Float.POSITIVE_INFINITY;
+            int i = 0;
+            for (JsonValue phase = phases != null ? phases.child : null; phase != null; phase = phase.next, i++) {
+                float above = phase.getFloat("above", 0f);
+                if (above >= previous) throw new IllegalArgumentException("Boss level " + level + ": phase thresholds must descend");
+                previous = above;
+                JsonValue emit = phase.get("emit");
+                Emitter[] emitters = new Emitter[emit != null ? emit.size : 0];
+                int j = 0;
+                for (JsonValue e = emit != null ? emit.child : null; e != null; e = e.next) emitters[j++] = emitter(level, e);
+                compiled[i] = new BossScript.Phase(above, phase.getFloat("interval"), emitters);
+            }
+            add(into, new BossScript(level, compiled));
+        }
+    }
+
+    private static Emitter emitter(int level, JsonValue e) {
+        Emitter.Type type;
+        String name = e.getString("type");
+        if ("aimed".equals(name)) type = Emitter.Type.AIMED;
+        else if ("fan".equals(name)) type = Emitter.Type.FAN;
+        else if ("ring".equals(name)) type = Emitter.Type.RING;
+        else throw new IllegalArgumentException("Boss level " + level + ": unknown emitter type \"" + name + "\"");
+        return new Emitter(type, e.getInt("count"), e.getFloat("speed"), e.getFloat("lateral", 0f),
+            e.getFloat("from", 0f), e.getFloat("to", 0f), e.getFloat("spin", 0f), e.getFloat("miss", Constants.BOSS_MISS_DEG));
+    }
+
+    private static void add(Array<BossScript> scripts, BossScript script) {
+        int i = 0;
+        while (i < scripts.size && scripts.get(i).level < script.level) i++;
+        if (i < scripts.size && scripts.get(i).level == script.level) throw new IllegalArgumentException("Boss level " + script.level + " defined twice");
+        scripts.insert(i, script);
+    }
+
+    /** The script for {@code level}: the highest scripted level not above it (the lowest if all are). */
+    public BossScript forLevel(int level) { return forLevel(level, false); }
+
+    /** As {@link #forLevel(int)}, from the bullet hell scripts when {@code bulletHell} is set and the file has any. */
+    public BossScript forLevel(int level, boolean bulletHell) {
+        Array<BossScript> scripts = bulletHell && bulletHellScripts.size > 0 ? bulletHellScripts : this.scripts;
+        BossScript best = scripts.first();
+        for (int i = 1; i < scripts.size && scripts.get(i).level <= level; i++) best = scripts.get(i);
+        return best;
+    }
+
+    public int getScriptCount() { return scripts.size; }
+    public int getBulletHellScriptCount() { return bulletHellScripts.size; }
+}
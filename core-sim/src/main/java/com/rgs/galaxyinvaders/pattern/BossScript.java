@@ -0,0 +1,41 @@
+package com.rgs.galaxyinvaders.pattern;
+
+import com.rgs.galaxyinvaders.world.GameWorld;
+
+/** A boss level's attack script: phases ordered by HP threshold, highest first. Immutable once parsed. */
+public final class BossScript {
+    /** One HP band: while HP% is above {@link #above}, every {@link #interval} seconds all emitters fire together. */
+    public static final class Phase {
+        final float above, interval;
+        final Emitter[] emitters;
+
+        Phase(float above, float interval, Emitter[] emitters) {
+            this.above = above;
+            this.interval = interval;
+            this.emitters = emitters;
+        }
+
+        public float getInterval() { return interval; }
+
+        public void fire(GameWorld world, float cx, float cy, float t) {
+            for (Emitter e : emitters) e.fire(world, cx, cy, t);
+        }
+    }
+
+    final int level;
+    private final Phase[] phases;
+
+    BossScript(int level, Phase[] phases) {
+        if (phases.length == 0) throw new IllegalArgumentException("Boss level " + level + " has no phases");
+        this.level = level;
+        this.phases = phases;
+    }
+
+    public int getLevel() { return level; }
+
+    /** The first phase whose threshold {@code hpPct} (0..1) is above; the last phase once below all of them. */
+    public Phase phaseFor(float hpPct) {
+        for (int i = 0; i < phases.length - 1; i++) if (hpPct > phases[i].above) return phases[i];
+        return phases[phases.length - 1];
+    }
+}
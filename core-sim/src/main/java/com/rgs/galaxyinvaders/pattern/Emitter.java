@@ -0,0 +1,91 @@
+package com.rgs.galaxyinvaders.pattern;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.rgs.galaxyinvaders.entities.Player;
+import com.rgs.galaxyinvaders.world.GameWorld;
+
+/**
+ * One burst of boss bullets, compiled from a script entry. Directions are tabulated when the script loads,
+ * so firing walks a table: rings rotate it with one {@link MathUtils} table lookup per burst, aimed volleys
+ * rotate the player direction by tabulated miss angles. No per-bullet trig, no allocation.
+ * <p>
+ * Angles are degrees with 90 = straight down. With {@code lateral} set, bullets "rain": they fall at
+ * {@code speed} and drift sideways at dir.x * lateral (the classic boss look); otherwise they fly along dir at speed.
+ * Enemy bullets only despawn once below the screen, so every bullet must keep falling: aimed and ring emitters
+ * need {@code lateral}, and a fan without it must stay strictly inside (0, 180).
+ */
+public final class Emitter {
+    public enum Type { AIMED, FAN, RING }
+
+    /** Resolution of the aimed-miss table; a drawn miss angle snaps to the nearest entry. */
+    static final int MISS_STEPS = 41;
+
+    final Type type;
+    final int count;
+    final float speed, lateral, spin;
+    private final float[] cos, sin; // FAN / RING: bullet directions; AIMED: miss rotations
+
+    Emitter(Type type, int count, float speed, float lateral, float from, float to, float spin, float miss) {
+        if (count < 1) throw new IllegalArgumentException("Emitter count must be >= 1: " + count);
+        if (lateral <= 0f && type != Type.FAN) throw new IllegalArgumentException(type + " emitters need lateral (bullets must keep falling)");
+        this.type = type;
+        this.count = count;
+        this.speed = speed;
+        this.lateral = lateral;
+        this.spin = spin;
+        int n = type == Type.AIMED ? (miss > 0f ? MISS_STEPS : 1) : count;
+        cos = new float[n];
+        sin = new float[n];
+        for (int i = 0; i < n; i++) {
+            float deg;
+            switch (type) {
+                case AIMED: deg = n > 1 ? MathUtils.lerp(-miss, miss, i / (float) (n - 1)) : 0f; break;
+                case FAN:   deg = n > 1 ? MathUtils.lerp(from, to, i / (float) (n - 1)) : (from + to) / 2f; break;
+                default:    deg = from + i * (360f / n); break;
+            }
+            float rad = deg * MathUtils.degreesToRadians;
+            cos[i] = (float) Math.cos(rad);
+            sin[i] = (float) Math.sin(rad);
+            if (lateral <= 0f && type == Type.FAN && sin[i] <= 0f) {
+                throw new IllegalArgumentException("Fan direction " + deg + " does not point down; narrow the arc or set lateral");
+            }
+        }
+    }
+
+    /** Fires the burst from (cx, cy); {@code t} is the boss's age, which drives ring spin. Stops at the bullet cap. */
+    void fire(GameWorld world, float cx, float cy, float t) {
+        switch (type) {
+            case AIMED: aimed(world, cx, cy); break;
+            case FAN:
+                for (int i = 0; i < count && !world.bossBulletCapReached(); i++) shoot(world, cx, cy, cos[i], sin[i]);
+                break;
+            case RING:
+                float cr = MathUtils.cosDeg(t * spin), sr = MathUtils.sinDeg(t * spin);
+                for (int i = 0; i < count && !world.bossBulletCapReached(); i++) {
+                    shoot(world, cx, cy, cos[i] * cr - sin[i] * sr, sin[i] * cr + cos[i] * sr);
+                }
+                break;
+        }
+    }
+
+    private void shoot(GameWorld world, float cx, float cy, float dx, float dy) {
+        if (lateral > 0f) world.fireBoss(cx, cy, dx * lateral, -speed);
+        else world.fireBoss(cx, cy, dx * speed, -dy * speed);
+    }
+
+    /** Towards the player, each shot rotated by a random tabulated miss angle (one RNG draw per shot). */
+    private void aimed(GameWorld world, float cx, float cy) {
+        Player p = world.getPlayer();
+        float dx = p.centerX() - cx, dy = p.centerY() - cy;
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        if (len < 1e-4f) { dx = 0f; dy = -1f; len = 1f; }
+        dx /= len; dy /= len;
+        int last = cos.length - 1;
+        for (int i = 0; i < count && !world.bossBulletCapReached(); i++) {
+            float u = world.random().nextFloat();
+            int k = (int) (u * last + 0.5f);
+            float ax = dx * cos[k] - dy * sin[k];
+            world.fireBoss(cx, cy, ax * lateral, -speed);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.rgs.galaxyinvaders.profile;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Named nanoTime phase timers with a fixed ring of recent samples per phase. Everything is allocated up
+ * front, so begin/end never allocate; when disabled they are a single field check.
+ * Percentiles are computed on demand (overlay refresh, dump), never in the timed path.
+ */
+public class PhaseProfiler {
+    private final String[] names;
+    private final long[][] samples;
+    private final long[] starts;
+    private final int[] heads, counts;
+    private final long[] scratch;
+    private boolean enabled = false;
+
+    public PhaseProfiler(int capacity, String... names) {
+        this.names = names;
+        samples = new long[names.length][capacity];
+        starts = new long[names.length];
+        heads = new int[names.length];
+        counts = new int[names.length];
+        scratch = new long[capacity];
+    }
+
+    public void begin(int phase) {
+        if (!enabled) return;
+        starts[phase] = TimeUtils.nanoTime();
+    }
+
+    public void end(int phase) {
+        if (!enabled) return;
+        record(phase, TimeUtils.nanoTime() - starts[phase]);
+    }
+
+    public void record(int phase, long nanos) {
+        long[] ring = samples[phase];
+        ring[heads[phase]] = nanos;
+        heads[phase] = (heads[phase] + 1) % ring.length;
+        if (counts[phase] < ring.length) counts[phase]++;
+    }
+
+    /** Quantile {@code q} (0..1) of the samples currently in the ring, in nanoseconds; 0 with no samples. */
+    public long percentile(int phase, float q) {
+        int n = counts[phase];
+        if (n == 0) return 0;
+        System.arraycopy(samples[phase], 0, scratch, 0, n);
+        Arrays.sort(scratch, 0, n);
+        return scratch[Math.min(n - 1, (int) (q * n))];
+    }
+
+    public void clear() {
+        Arrays.fill(heads, 0);
+        Arrays.fill(counts, 0);
+    }
+
+    /** Appends a CSV block: one summary row per phase, then the raw samples oldest first. */
+    public void appendCsv(StringBuilder out) {
+        out.append("phase,samples,p50_us,p95_us,p99_us\n");
+        for (int p = 0; p < names.length; p++) {
+            out.append(names[p]).append(',').append(counts[p])
+                .append(',').append(percentile(p, 0.50f) / 1000f)
+                .append(',').append(percentile(p, 0.95f) / 1000f)
+                .append(',').append(percentile(p, 0.99f) / 1000f).append('\n');
+        }
+        for (int p = 0; p < names.length; p++) {
+            out.append(names[p]).append("_ns");
+            long[] ring = samples[p];
+            int n = counts[p], start = n < ring.length ? 0 : heads[p];
+            for (int i = 0; i < n; i++) out.append(',').append(ring[(start + i) % ring.length]);
+            out.append('\n');
+        }
+    }
+
+    public int getPhaseCount() { return names.length; }
+    public String getName(int phase) { return names[phase]; }
+    public int getSampleCount(int phase) { return counts[phase]; }
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+}
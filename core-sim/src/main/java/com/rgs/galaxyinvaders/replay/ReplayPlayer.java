@@ -0,0 +1,93 @@
+package com.rgs.galaxyinvaders.replay;
+
+import com.rgs.galaxyinvaders.pattern.BossPatterns;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.InputSource;
+import com.rgs.galaxyinvaders.world.ShipMetrics;
+import com.rgs.galaxyinvaders.world.WorldEvents;
+
+/**
+ * Plays a {@link ReplayRecorder} log back as an {@link InputSource}.
+ * Build the world with {@link #getSeed()} and the recorded settings ({@link #isBulletHell()}, {@link #isInvulnerable()}),
+ * step it with {@link #getStep()}, and it re-runs the session tick for tick. After the last recorded tick the
+ * controls read as released. Version 1 logs (no flags) still play.
+ */
+public class ReplayPlayer implements InputSource {
+    private final byte[] data;
+    private final long seed;
+    private final float step;
+    private final int ticks;
+    private final int flags;
+
+    private int pos;            // read position in the run list
+    private int runValue = 0, runLeft = 0;
+    private int tick = 0;
+    private float axis = 0f;
+    private boolean fire = false;
+
+    public ReplayPlayer(byte[] data) {
+        if (data.length < 20) throw new IllegalArgumentException("Replay too short: " + data.length + " bytes");
+        for (int i = 0; i < ReplayRecorder.MAGIC.length - 1; i++) {
+            if (data[i] != ReplayRecorder.MAGIC[i]) throw new IllegalArgumentException("Not a replay (bad magic)");
+        }
+        byte version = data[ReplayRecorder.MAGIC.length - 1];
+        if (version != '1' && version != '2') throw new IllegalArgumentException("Unknown replay version " + (char) version);
+        if (version == '2' && data.length < 24) throw new IllegalArgumentException("Replay too short: " + data.length + " bytes");
+        this.data = data;
+        this.seed = ((long) readInt(4) << 32) | (readInt(8) & 0xFFFFFFFFL);
+        this.step = Float.intBitsToFloat(readInt(12));
+        this.ticks = readInt(16);
+        this.flags = version == '1' ? 0 : readInt(20);
+        this.pos = version == '1' ? 20 : 24;
+    }
+
+    /** Builds a world from the replay's seed and runs every recorded tick; returns it for inspection. */
+    public static GameWorld play(byte[] data, ShipMetrics metrics, BossPatterns patterns, WorldEvents events) {
+        ReplayPlayer replay = new ReplayPlayer(data);
+        GameWorld world = new GameWorld(metrics, replay.getSeed());
+        world.setBossPatterns(patterns);
+        world.setBulletHell(replay.isBulletHell());
+        world.setInvulnerable(replay.isInvulnerable());
+        world.setEvents(events);
+        world.setInput(replay);
+        for (int i = 0; i < replay.getTicks() && !world.isGameOver(); i++) world.update(replay.getStep());
+        return world;
+    }
+
+    @Override public void nextTick() {
+        if (tick >= ticks) { axis = 0f; fire = false; return; }
+        if (runLeft == 0) {
+            runValue = data[pos++] & 0xFF;
+            runLeft = readVarInt();
+        }
+        runLeft--;
+        tick++;
+        axis = ReplayRecorder.decodeAxis(runValue);
+        fire = ReplayRecorder.decodeFire(runValue);
+    }
+
+    @Override public float moveAxis() { return axis; }
+    @Override public boolean fire() { return fire; }
+
+    public long getSeed() { return seed; }
+    public float getStep() { return step; }
+    public int getTicks() { return ticks; }
+    public boolean isBulletHell() { return (flags & ReplayRecorder.FLAG_BULLET_HELL) != 0; }
+    public boolean isInvulnerable() { return (flags & ReplayRecorder.FLAG_INVULNERABLE) != 0; }
+    public int getTick() { return tick; }
+    public boolean isFinished() { return tick >= ticks; }
+
+    private int readVarInt() {
+        int v = 0, shift = 0, b;
+        do {
+            b = data[pos++] & 0xFF;
+            v |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return v;
+    }
+
+    private int readInt(int at) {
+        return ((data[at] & 0xFF) << 24) | ((data[at + 1] & 0xFF) << 16) | ((data[at + 2] & 0xFF) << 8) | (data[at + 3] & 0xFF);
+    }
+}
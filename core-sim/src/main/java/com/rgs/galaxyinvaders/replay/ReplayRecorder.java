@@ -0,0 +1,90 @@
+package com.rgs.galaxyinvaders.replay;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.ByteArray;
+
+/**
+ * Records per-tick player input plus the world seed and settings into a compact binary log.
+ * <p>
+ * Layout (big-endian): magic {@code "GIR2"}, seed (long), step seconds (float), tick count (int), flags (int,
+ * {@link #FLAG_BULLET_HELL} | {@link #FLAG_INVULNERABLE}), then run-length encoded ticks as [input byte][run length varint]. One input byte packs the move axis
+ * quantized to {@link #AXIS_STEPS} steps per side and the fire bit, so steady input costs ~2 bytes per run.
+ * The world always feeds the quantized axis to the player, so live play and playback see identical input.
+ */
+public class ReplayRecorder {
+    static final byte[] MAGIC = { 'G', 'I', 'R', '2' };
+    public static final int AXIS_STEPS = 63;
+    public static final int FLAG_BULLET_HELL = 1, FLAG_INVULNERABLE = 2;
+
+    private final long seed;
+    private final float step;
+    private final int flags;
+    private final ByteArray runs = new ByteArray(256);
+    private int ticks = 0;
+    private int runValue = -1, runLength = 0;
+
+    public ReplayRecorder(long seed, float step) { this(seed, step, 0); }
+
+    public ReplayRecorder(long seed, float step, int flags) {
+        this.seed = seed;
+        this.step = step;
+        this.flags = flags;
+    }
+
+    /** Snaps an axis value to what a replay can represent. */
+    public static float quantizeAxis(float axis) {
+        return Math.round(MathUtils.clamp(axis, -1f, 1f) * AXIS_STEPS) / (float) AXIS_STEPS;
+    }
+
+    static int encode(float axis, boolean fire) { return ((Math.round(quantizeAxis(axis) * AXIS_STEPS) + AXIS_STEPS) << 1) | (fire ? 1 : 0); }
+    static float decodeAxis(int value) { return ((value >> 1) - AXIS_STEPS) / (float) AXIS_STEPS; }
+    static boolean decodeFire(int value) { return (value & 1) != 0; }
+
+    public void record(float axis, boolean fire) {
+        int v = encode(axis, fire);
+        if (v == runValue) runLength++;
+        else {
+            flushRun();
+            runValue = v;
+            runLength = 1;
+        }
+        ticks++;
+    }
+
+    public int getTicks() { return ticks; }
+    public long getSeed() { return seed; }
+    public int getFlags() { return flags; }
+
+    public byte[] toBytes() {
+        ByteArray out = new ByteArray(24 + runs.size + 6);
+        out.addAll(MAGIC);
+        writeLong(out, seed);
+        writeInt(out, Float.floatToIntBits(step));
+        writeInt(out, ticks);
+        writeInt(out, flags);
+        out.addAll(runs);
+        if (runLength > 0) {
+            out.add((byte) runValue);
+            writeVarInt(out, runLength);
+        }
+        return out.toArray();
+    }
+
+    private void flushRun() {
+        if (runLength == 0) return;
+        runs.add((byte) runValue);
+        writeVarInt(runs, runLength);
+    }
+
+    private static void writeVarInt(ByteArray out, int v) {
+        while ((v & ~0x7F) != 0) { out.add((byte) ((v & 0x7F) | 0x80)); v >>>= 7; }
+        out.add((byte) v);
+    }
+    private static void writeInt(ByteArray out, int v) {
+        out.add((byte) (v >>> 24), (byte) (v >>> 16), (byte) (v >>> 8), (byte) v);
+    }
+    private static void writeLong(ByteArray out, long v) {
+        writeInt(out, (int) (v >>> 32));
+        writeInt(out, (int) v);
+    }
+}
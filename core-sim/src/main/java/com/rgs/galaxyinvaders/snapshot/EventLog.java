@@ -0,0 +1,49 @@
+package com.rgs.galaxyinvaders.snapshot;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.rgs.galaxyinvaders.world.SoundCue;
+import com.rgs.galaxyinvaders.world.WorldEvents;
+
+/**
+ * Records {@link WorldEvents} as flat primitives so they can be replayed later on another thread.
+ * Each event is two ints (kind, cue ordinal or score) and four floats; nothing is allocated once the arrays are warm.
+ */
+public class EventLog implements WorldEvents {
+    private static final int SOUND = 0, EXPLOSION = 1, BIG_EXPLOSION = 2, SHAKE = 3, FLASH = 4, GAME_OVER = 5;
+    private static final SoundCue[] CUES = SoundCue.values();
+
+    private final IntArray ints = new IntArray(64);
+    private final FloatArray floats = new FloatArray(128);
+
+    @Override public void onSound(SoundCue cue, float volume) { add(SOUND, cue.ordinal(), volume, 0f, 0f, 0f); }
+    @Override public void onExplosion(float cx, float cy, float frameDuration, float scale) { add(EXPLOSION, 0, cx, cy, frameDuration, scale); }
+    @Override public void onBigExplosion(float cx, float cy) { add(BIG_EXPLOSION, 0, cx, cy, 0f, 0f); }
+    @Override public void onShake(float time, float strength) { add(SHAKE, 0, time, strength, 0f, 0f); }
+    @Override public void onFlash(float time) { add(FLASH, 0, time, 0f, 0f, 0f); }
+    @Override public void onGameOver(int score) { add(GAME_OVER, score, 0f, 0f, 0f, 0f); }
+
+    /** Sends every recorded event to {@code to}, oldest first. */
+    public void replay(WorldEvents to) {
+        for (int e = 0, n = ints.size / 2; e < n; e++) {
+            int arg = ints.get(e * 2 + 1);
+            float a = floats.get(e * 4), b = floats.get(e * 4 + 1), c = floats.get(e * 4 + 2), d = floats.get(e * 4 + 3);
+            switch (ints.get(e * 2)) {
+                case SOUND: to.onSound(CUES[arg], a); break;
+                case EXPLOSION: to.onExplosion(a, b, c, d); break;
+                case BIG_EXPLOSION: to.onBigExplosion(a, b); break;
+                case SHAKE: to.onShake(a, b); break;
+                case FLASH: to.onFlash(a); break;
+                case GAME_OVER: to.onGameOver(arg); break;
+            }
+        }
+    }
+
+    public int size() { return ints.size / 2; }
+    public void clear() { ints.clear(); floats.clear(); }
+
+    private void add(int kind, int arg, float a, float b, float c, float d) {
+        ints.add(kind, arg);
+        floats.add(a, b, c, d);
+    }
+}
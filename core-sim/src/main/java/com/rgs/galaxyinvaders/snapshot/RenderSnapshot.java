@@ -0,0 +1,90 @@
+package com.rgs.galaxyinvaders.snapshot;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.Array;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.entities.Boss;
+import com.rgs.galaxyinvaders.entities.Player;
+import com.rgs.galaxyinvaders.entities.PowerUp;
+import com.rgs.galaxyinvaders.entities.PowerUpType;
+import com.rgs.galaxyinvaders.world.BulletStore;
+import com.rgs.galaxyinvaders.world.EnemyStore;
+import com.rgs.galaxyinvaders.world.GameWorld;
+
+/**
+ * What a frame needs to draw a {@link GameWorld}, copied out at the end of a tick so the renderer never reads
+ * live simulation state. Preallocated and reused: {@link #capture} only allocates when a count exceeds every
+ * earlier one. Positions keep the previous and current step, so drawing still interpolates.
+ */
+public class RenderSnapshot {
+    public final EnemyStore enemies = new EnemyStore(64);
+    public final BulletStore playerBullets = new BulletStore(128);
+    public final BulletStore enemyBullets = new BulletStore(Constants.BOSS_BULLET_LIMIT * 2);
+
+    public float playerX, playerY, playerPrevX, playerPrevY, playerW, playerH, blinkTimer, shieldTimer;
+
+    public boolean hasBoss;
+    public float bossX, bossY, bossPrevX, bossPrevY, bossW, bossH, bossHitTimer;
+    public int bossHp, bossMaxHp;
+
+    public int powerUpCount;
+    public float[] powerUpX = new float[8], powerUpY = new float[8], powerUpPrevY = new float[8], powerUpSize = new float[8];
+    public PowerUpType[] powerUpType = new PowerUpType[8];
+
+    public int score, lives, wave, bossesDefeated;
+    public float timeScale;
+    public boolean gameOver;
+
+    /** When the snapshot was published ({@code TimeUtils.nanoTime()}); threaded interpolation runs from here. */
+    public long publishedNanos;
+
+    /** Presentation events raised by the ticks this snapshot covers. */
+    public final EventLog events = new EventLog();
+
+    public void capture(GameWorld world) {
+        enemies.copyFrom(world.getEnemies());
+        playerBullets.copyFrom(world.getPlayerBullets());
+        enemyBullets.copyFrom(world.getEnemyBullets());
+
+        Player p = world.getPlayer();
+        playerX = p.getX(); playerY = p.getY(); playerPrevX = p.getPrevX(); playerPrevY = p.getPrevY();
+        playerW = p.getW(); playerH = p.getH();
+        blinkTimer = p.getBlinkTimer(); shieldTimer = p.getShieldTimer();
+
+        Boss b = world.getBoss();
+        hasBoss = b != null;
+        if (hasBoss) {
+            bossX = b.getX(); bossY = b.getY(); bossPrevX = b.getPrevX(); bossPrevY = b.getPrevY();
+            bossW = b.getW(); bossH = b.getH(); bossHitTimer = b.getHitTimer();
+            bossHp = b.getHp(); bossMaxHp = b.getMaxHp();
+        }
+
+        Array<PowerUp> powerUps = world.getPowerUps();
+        int n = powerUps.size;
+        if (powerUpX.length < n) growPowerUps(n * 2);
+        for (int i = 0; i < n; i++) {
+            PowerUp u = powerUps.get(i);
+            powerUpX[i] = u.getX(); powerUpY[i] = u.getY(); powerUpPrevY[i] = u.getPrevY();
+            powerUpSize[i] = u.getSize(); powerUpType[i] = u.getType();
+        }
+        powerUpCount = n;
+
+        score = world.getScore(); lives = p.getLives(); wave = world.getWave(); bossesDefeated = world.getBossesDefeated();
+        timeScale = world.getTimeScale();
+        gameOver = world.isGameOver();
+    }
+
+    // helpers
+    public float playerLerpX(float alpha) { return playerPrevX + (playerX - playerPrevX) * alpha; }
+    public float playerLerpY(float alpha) { return playerPrevY + (playerY - playerPrevY) * alpha; }
+    public float bossLerpX(float alpha) { return bossPrevX + (bossX - bossPrevX) * alpha; }
+    public float bossLerpY(float alpha) { return bossPrevY + (bossY - bossPrevY) * alpha; }
+    public float powerUpLerpY(int i, float alpha) { return powerUpPrevY[i] + (powerUpY[i] - powerUpPrevY[i]) * alpha; }
+
+    private void growPowerUps(int capacity) {
+        powerUpX = Arrays.copyOf(powerUpX, capacity); powerUpY = Arrays.copyOf(powerUpY, capacity);
+        powerUpPrevY = Arrays.copyOf(powerUpPrevY, capacity); powerUpSize = Arrays.copyOf(powerUpSize, capacity);
+        powerUpType = Arrays.copyOf(powerUpType, capacity);
+    }
+}
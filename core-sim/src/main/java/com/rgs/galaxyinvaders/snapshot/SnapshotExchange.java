@@ -0,0 +1,62 @@
+package com.rgs.galaxyinvaders.snapshot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.utils.TimeUtils;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.SoundCue;
+import com.rgs.galaxyinvaders.world.WorldEvents;
+
+/**
+ * Lock-free triple buffer of {@link RenderSnapshot}s between one writer (the simulation) and one reader (the renderer).
+ * The writer fills its back buffer and swaps it into the middle; the reader swaps the middle out only when it is newer
+ * than what it holds. Neither side ever waits: a slow reader skips snapshots, a slow writer is drawn again.
+ * <p>
+ * The exchange is also the world's event sink: events go into the back buffer's {@link EventLog} and are replayed
+ * when the reader takes that snapshot. A snapshot the reader skipped keeps its events, and the writer's next ones
+ * are added after them, so none are lost; they just arrive a frame late.
+ */
+public class SnapshotExchange implements WorldEvents {
+    private static final int INDEX = 3, FRESH = 4; // middle slot: buffer index, plus FRESH until the reader takes it
+
+    private final RenderSnapshot[] buffers = { new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot() };
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;  // writer only
+    private int front = 2; // reader only
+
+    /** Writer: copies {@code world} into the back buffer and makes it the latest snapshot. */
+    public void publish(GameWorld world) {
+        RenderSnapshot s = buffers[back];
+        s.capture(world);
+        s.publishedNanos = TimeUtils.nanoTime();
+        int old = middle.getAndSet(back | FRESH);
+        back = old & INDEX;
+        if ((old & FRESH) == 0) buffers[back].events.clear(); // the reader already replayed them
+    }
+
+    /** Reader: the newest published snapshot, replaying its events into {@code sink} the first time it is seen. */
+    public RenderSnapshot acquire(WorldEvents sink) {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+            buffers[front].events.replay(sink);
+        }
+        return buffers[front];
+    }
+
+    /**
+     * Drops every event not yet replayed, then publishes {@code world}, so the reader's next snapshot is of it.
+     * Only while nothing ticks (the sim thread stopped), e.g. after the world was reset.
+     */
+    public void reset(GameWorld world) {
+        for (RenderSnapshot s : buffers) s.events.clear();
+        publish(world);
+    }
+
+    // Writer side: record into the snapshot being built
+    @Override public void onSound(SoundCue cue, float volume) { buffers[back].events.onSound(cue, volume); }
+    @Override public void onExplosion(float cx, float cy, float frameDuration, float scale) { buffers[back].events.onExplosion(cx, cy, frameDuration, scale); }
+    @Override public void onBigExplosion(float cx, float cy) { buffers[back].events.onBigExplosion(cx, cy); }
+    @Override public void onShake(float time, float strength) { buffers[back].events.onShake(time, strength); }
+    @Override public void onFlash(float time) { buffers[back].events.onFlash(time); }
+    @Override public void onGameOver(int score) { buffers[back].events.onGameOver(score); }
+}
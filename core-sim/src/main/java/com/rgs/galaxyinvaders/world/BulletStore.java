@@ -0,0 +1,89 @@
+package com.rgs.galaxyinvaders.world;
+
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.entities.GameObject;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays bullet storage: parallel primitive arrays plus a live count.
+ * Slots [0, size) are live. Removal swaps the last bullet into the freed slot, so it is O(1)
+ * but does not keep order; callers that remove while iterating must walk indices downwards.
+ * Renderers read the public arrays directly.
+ */
+public class BulletStore {
+    public float[] x, y, vx, vy, w, h;
+    public float[] px, py; // position before the last integrate(), for render interpolation
+    public int size = 0;
+
+    public BulletStore(int capacity) {
+        capacity = Math.max(8, capacity);
+        x = new float[capacity]; y = new float[capacity];
+        vx = new float[capacity]; vy = new float[capacity];
+        w = new float[capacity]; h = new float[capacity];
+        px = new float[capacity]; py = new float[capacity];
+    }
+
+    /** Appends a bullet and returns its slot. */
+    public int add(float x, float y, float w, float h, float vx, float vy) {
+        if (size == this.x.length) grow(size * 2);
+        int i = size++;
+        this.x[i] = px[i] = x; this.y[i] = py[i] = y; this.w[i] = w; this.h[i] = h; this.vx[i] = vx; this.vy[i] = vy;
+        return i;
+    }
+
+    public void integrate(float dt) { integrate(0, size, dt); }
+
+    /** Integrates slots [from, to) only; disjoint ranges may run on different threads. */
+    public void integrate(int from, int to, float dt) {
+        final float[] x = this.x, y = this.y, vx = this.vx, vy = this.vy, px = this.px, py = this.py;
+        for (int i = from; i < to; i++) {
+            px[i] = x[i];
+            py[i] = y[i];
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+        }
+    }
+
+    /** Removes slot {@code i} by moving the last bullet into it. */
+    public void removeSwap(int i) {
+        int last = --size;
+        if (i == last) return;
+        x[i] = x[last]; y[i] = y[last]; w[i] = w[last]; h[i] = h[last]; vx[i] = vx[last]; vy[i] = vy[last];
+        px[i] = px[last]; py[i] = py[last];
+    }
+
+    public void clear() { size = 0; }
+
+    /** Makes this an exact copy of {@code src}'s live slots (render snapshots; see RenderSnapshot). */
+    public void copyFrom(BulletStore src) {
+        int n = src.size;
+        if (x.length < n) grow(src.x.length);
+        System.arraycopy(src.x, 0, x, 0, n); System.arraycopy(src.y, 0, y, 0, n);
+        System.arraycopy(src.vx, 0, vx, 0, n); System.arraycopy(src.vy, 0, vy, 0, n);
+        System.arraycopy(src.w, 0, w, 0, n); System.arraycopy(src.h, 0, h, 0, n);
+        System.arraycopy(src.px, 0, px, 0, n); System.arraycopy(src.py, 0, py, 0, n);
+        size = n;
+    }
+
+    // helpers
+    public float cx(int i) { return x[i] + w[i]/2f; }
+    public float cy(int i) { return y[i] + h[i]/2f; }
+    public float radius(int i) { return w[i]/2f; }
+    public float lerpCx(int i, float alpha) { return px[i] + (x[i] - px[i]) * alpha + w[i]/2f; }
+    public float lerpCy(int i, float alpha) { return py[i] + (y[i] - py[i]) * alpha + h[i]/2f; }
+
+    // Hitbox: shrunk by BULLET_HITBOX_SCALE around the visual centre
+    public float hitW(int i) { return w[i] * Constants.BULLET_HITBOX_SCALE; }
+    public float hitH(int i) { return h[i] * Constants.BULLET_HITBOX_SCALE; }
+    public float hitX(int i) { return x[i] + (w[i] - hitW(i))/2f; }
+    public float hitY(int i) { return y[i] + (h[i] - hitH(i))/2f; }
+    public boolean overlaps(int i, GameObject o) { return o.overlaps(hitX(i), hitY(i), hitW(i), hitH(i)); }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity); y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity); vy = Arrays.copyOf(vy, capacity);
+        w = Arrays.copyOf(w, capacity); h = Arrays.copyOf(h, capacity);
+        px = Arrays.copyOf(px, capacity); py = Arrays.copyOf(py, capacity);
+    }
+}
@@ -0,0 +1,20 @@
+package com.rgs.galaxyinvaders.world;
+
+/**
+ * Runs the world's large per-entity loops in fixed-size chunks. The simulation only depends on this
+ * interface (it must stay thread-free for the web build); desktop and headless runs plug in a
+ * thread pool, everything else uses {@link #SERIAL}. Either way a job's results are identical.
+ */
+public interface ChunkRunner {
+    ChunkRunner SERIAL = new ChunkRunner() {
+        @Override public void run(int chunks, Job job) { for (int c = 0; c < chunks; c++) job.run(c); }
+    };
+
+    /** One chunk's work. It may only write to its own chunk's slots and its own result buffer. */
+    interface Job {
+        void run(int chunk);
+    }
+
+    /** Calls {@code job.run(c)} for every c in [0, chunks), in any order and on any thread; returns when all are done. */
+    void run(int chunks, Job job);
+}
@@ -0,0 +1,41 @@
+package com.rgs.galaxyinvaders.world;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Pool that keeps obtain/free/miss/peak counters so steady-state gameplay can be checked for allocations.
+ * A "miss" is an obtain() that had to construct a new object; once the game has warmed up the miss
+ * count should stop moving. Objects freed while the free list is at {@code max} are dropped (counted as discarded).
+ */
+public abstract class CountingPool<T> extends Pool<T> {
+    private long obtained, freed, misses, discarded;
+    private int live, peakLive;
+
+    public CountingPool(int initialCapacity, int max) { super(initialCapacity, max); }
+
+    protected abstract T create();
+
+    @Override protected final T newObject() { misses++; return create(); }
+
+    @Override public T obtain() {
+        T t = super.obtain();
+        obtained++;
+        if (++live > peakLive) peakLive = live;
+        return t;
+    }
+
+    @Override public void free(T object) {
+        freed++;
+        live--;
+        super.free(object);
+    }
+
+    @Override protected void discard(T object) { discarded++; super.discard(object); }
+
+    public long getObtained() { return obtained; }
+    public long getFreed() { return freed; }
+    public long getMisses() { return misses; }
+    public long getDiscarded() { return discarded; }
+    public int getLive() { return live; }
+    public int getPeakLive() { return peakLive; }
+}
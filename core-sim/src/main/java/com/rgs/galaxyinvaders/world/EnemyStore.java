@@ -0,0 +1,164 @@
+package com.rgs.galaxyinvaders.world;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.entities.GameObject;
+import com.rgs.galaxyinvaders.entities.Hitbox;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays enemy storage, partitioned by movement type: slots [start(t), end(t)) hold
+ * type t, so {@link #move} runs one straight loop per type with no per-enemy dispatch.
+ * Adding and removing keep the partitions contiguous with at most one move per later type,
+ * so both are O(1) but do not keep order; callers that remove while iterating must walk indices downwards.
+ * Fire timing is an absolute next-fire time compared against the world clock, not a per-frame countdown.
+ */
+public class EnemyStore {
+    public static final int SINE = 0, SHOOTER = 1, CHASER = 2, TYPES = 3;
+
+    // Per-type movement: descent as a multiple of speed, then the sine weave (SINE / SHOOTER) or chase factor
+    private static final float SINE_FALL = 1f, SINE_FREQ = 2.4f, SINE_AMP = 80f;
+    private static final float SHOOTER_FALL = 0.8f, SHOOTER_FREQ = 1.6f, SHOOTER_AMP = 50f;
+    private static final float CHASER_FALL = 1.1f, CHASER_CHASE = 1.3f;
+
+    public float[] x, y, w, h;
+    public float[] px, py;       // position before the last move(), for render interpolation
+    public float[] t, speed, hitTimer;
+    public float[] nextFire, reload, fireChance;
+    public int[] hp, score, variant;
+    public int size = 0;
+    private final int[] end = new int[TYPES]; // exclusive end of each type's slots; type t starts at end[t - 1]
+
+    public EnemyStore(int capacity) {
+        allocate(Math.max(8, capacity));
+    }
+
+    /** Appends an enemy to its type's partition and returns its slot. */
+    public int add(int type, int variant, float x, float y, float w, float h, int hp, float speed,
+                   float nextFire, float reload, float fireChance, int score) {
+        if (size == this.x.length) grow(size * 2);
+        // Open a slot at the end of `type` by moving each later partition's first enemy to its end
+        for (int k = TYPES - 1; k > type; k--) {
+            if (end[k] > end[k - 1]) copy(end[k - 1], end[k]);
+            end[k]++;
+        }
+        int i = end[type]++;
+        size++;
+        this.x[i] = px[i] = x; this.y[i] = py[i] = y; this.w[i] = w; this.h[i] = h;
+        this.hp[i] = hp; this.speed[i] = speed; this.t[i] = 0f; hitTimer[i] = 0f;
+        this.nextFire[i] = nextFire; this.reload[i] = reload; this.fireChance[i] = fireChance;
+        this.score[i] = score; this.variant[i] = variant;
+        return i;
+    }
+
+    /** Removes slot {@code i}: its partition's last enemy fills it, then each later partition shifts down by one slot. */
+    public void remove(int i) {
+        int type = typeOf(i);
+        int hole = end[type] - 1;
+        if (i != hole) copy(hole, i);
+        end[type]--;
+        for (int k = type + 1; k < TYPES; k++) {
+            int last = end[k] - 1;
+            if (last > hole) copy(last, hole);
+            hole = last;
+            end[k]--;
+        }
+        size--;
+    }
+
+    public void clear() { size = 0; Arrays.fill(end, 0); }
+
+    /** Makes this an exact copy of {@code src}, partitions included (render snapshots; see RenderSnapshot). */
+    public void copyFrom(EnemyStore src) {
+        int n = src.size;
+        if (x.length < n) grow(src.x.length);
+        System.arraycopy(src.x, 0, x, 0, n); System.arraycopy(src.y, 0, y, 0, n);
+        System.arraycopy(src.w, 0, w, 0, n); System.arraycopy(src.h, 0, h, 0, n);
+        System.arraycopy(src.px, 0, px, 0, n); System.arraycopy(src.py, 0, py, 0, n);
+        System.arraycopy(src.t, 0, t, 0, n); System.arraycopy(src.speed, 0, speed, 0, n);
+        System.arraycopy(src.hitTimer, 0, hitTimer, 0, n);
+        System.arraycopy(src.nextFire, 0, nextFire, 0, n); System.arraycopy(src.reload, 0, reload, 0, n);
+        System.arraycopy(src.fireChance, 0, fireChance, 0, n);
+        System.arraycopy(src.hp, 0, hp, 0, n); System.arraycopy(src.score, 0, score, 0, n);
+        System.arraycopy(src.variant, 0, variant, 0, n);
+        System.arraycopy(src.end, 0, end, 0, TYPES);
+        size = n;
+    }
+
+    /**
+     * One tick of movement. {@code playerCx} is hoisted by the caller so chasers read a local, not the player.
+     * Each loop is straight-line per enemy: table sine or signum, then the playfield clamp. Hit timers just run
+     * down (readers only test {@code > 0}); Math.max/min were measurably slower here than the plain clamp.
+     */
+    public void move(float dt, float playerCx) { move(0, size, dt, playerCx); }
+
+    /** Moves slots [from, to) only, each type's loop clipped to the range; disjoint ranges may run on different threads. */
+    public void move(int from, int to, float dt, float playerCx) {
+        final float[] x = this.x, y = this.y, px = this.px, py = this.py, w = this.w, t = this.t, speed = this.speed, hit = hitTimer;
+        final float maxX = Constants.W;
+        weave(from, Math.min(to, end[SINE]), dt, SINE_FALL, SINE_FREQ, SINE_AMP);
+        weave(Math.max(from, end[SINE]), Math.min(to, end[SHOOTER]), dt, SHOOTER_FALL, SHOOTER_FREQ, SHOOTER_AMP);
+        for (int i = Math.max(from, end[SHOOTER]), n = Math.min(to, end[CHASER]); i < n; i++) {
+            px[i] = x[i]; py[i] = y[i];
+            t[i] += dt;
+            hit[i] -= dt;
+            float vx = Math.signum(playerCx - (x[i] + w[i] / 2f)) * speed[i] * CHASER_CHASE;
+            y[i] -= speed[i] * CHASER_FALL * dt;
+            x[i] = MathUtils.clamp(x[i] + vx * dt, 0f, maxX - w[i]);
+        }
+    }
+
+    private void weave(int from, int to, float dt, float fall, float freq, float amp) {
+        final float[] x = this.x, y = this.y, px = this.px, py = this.py, w = this.w, t = this.t, speed = this.speed, hit = hitTimer;
+        final float maxX = Constants.W;
+        for (int i = from; i < to; i++) {
+            px[i] = x[i]; py[i] = y[i];
+            float ti = t[i] + dt;
+            t[i] = ti;
+            hit[i] -= dt;
+            y[i] -= speed[i] * fall * dt;
+            x[i] = MathUtils.clamp(x[i] + MathUtils.sin(ti * freq) * amp * dt, 0f, maxX - w[i]);
+        }
+    }
+
+    public int typeOf(int i) { return i < end[SINE] ? SINE : (i < end[SHOOTER] ? SHOOTER : CHASER); }
+    public int start(int type) { return type == 0 ? 0 : end[type - 1]; }
+    public int end(int type) { return end[type]; }
+
+    public void damage(int i, int d) { hp[i] -= d; hitTimer[i] = 0.12f; }
+    public boolean isDead(int i) { return hp[i] <= 0; }
+    public void kill(int i) { hp[i] = 0; }
+
+    // helpers
+    public float cx(int i) { return x[i] + w[i]/2f; }
+    public float cy(int i) { return y[i] + h[i]/2f; }
+    public float lerpX(int i, float alpha) { return px[i] + (x[i] - px[i]) * alpha; }
+    public float lerpY(int i, float alpha) { return py[i] + (y[i] - py[i]) * alpha; }
+    public boolean overlaps(int i, GameObject o) { return o.overlaps(x[i], y[i], w[i], h[i]); }
+    public boolean overlaps(int i, float ox, float oy, float ow, float oh) { return Hitbox.overlaps(x[i], y[i], w[i], h[i], ox, oy, ow, oh); }
+
+    private void copy(int from, int to) {
+        x[to] = x[from]; y[to] = y[from]; w[to] = w[from]; h[to] = h[from]; px[to] = px[from]; py[to] = py[from];
+        t[to] = t[from]; speed[to] = speed[from]; hitTimer[to] = hitTimer[from];
+        nextFire[to] = nextFire[from]; reload[to] = reload[from]; fireChance[to] = fireChance[from];
+        hp[to] = hp[from]; score[to] = score[from]; variant[to] = variant[from];
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity]; y = new float[capacity]; w = new float[capacity]; h = new float[capacity];
+        px = new float[capacity]; py = new float[capacity];
+        t = new float[capacity]; speed = new float[capacity]; hitTimer = new float[capacity];
+        nextFire = new float[capacity]; reload = new float[capacity]; fireChance = new float[capacity];
+        hp = new int[capacity]; score = new int[capacity]; variant = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity); y = Arrays.copyOf(y, capacity);
+        w = Arrays.copyOf(w, capacity); h = Arrays.copyOf(h, capacity);
+        px = Arrays.copyOf(px, capacity); py = Arrays.copyOf(py, capacity);
+        t = Arrays.copyOf(t, capacity); speed = Arrays.copyOf(speed, capacity); hitTimer = Arrays.copyOf(hitTimer, capacity);
+        nextFire = Arrays.copyOf(nextFire, capacity); reload = Arrays.copyOf(reload, capacity); fireChance = Arrays.copyOf(fireChance, capacity);
+        hp = Arrays.copyOf(hp, capacity); score = Arrays.copyOf(score, capacity); variant = Arrays.copyOf(variant, capacity);
+    }
+}
@@ -0,0 +1,43 @@
+package com.rgs.galaxyinvaders.world;
+
+/**
+ * Fixed-timestep accumulator. Frame time goes in through {@link #advance}; the caller then runs the
+ * returned number of simulation steps of {@link #getStep()} seconds each and renders with
+ * {@link #getAlpha()} to interpolate between the previous and current step.
+ * If a frame would need more than {@code maxStepsPerFrame} steps the extra time is dropped
+ * (the game briefly slows down instead of spiralling into ever longer frames).
+ */
+public class FixedStepClock {
+    private final float step;
+    private int maxStepsPerFrame;
+    private float accumulator = 0f;
+    private long droppedSteps = 0;
+
+    public FixedStepClock(float stepsPerSecond, int maxStepsPerFrame) {
+        this.step = 1f / stepsPerSecond;
+        this.maxStepsPerFrame = Math.max(1, maxStepsPerFrame);
+    }
+
+    /** Adds {@code frameDelta} seconds of simulated time and returns how many steps to run now. */
+    public int advance(float frameDelta) {
+        if (frameDelta > 0f) accumulator += frameDelta;
+        int steps = (int) (accumulator / step);
+        if (steps > maxStepsPerFrame) {
+            droppedSteps += steps - maxStepsPerFrame;
+            steps = maxStepsPerFrame;
+            accumulator = steps * step; // keep only what we will simulate
+        }
+        accumulator -= steps * step;
+        if (accumulator < 0f) accumulator = 0f;
+        return steps;
+    }
+
+    /** How far (0..1) rendering sits between the last two simulated steps. */
+    public float getAlpha() { return Math.min(1f, accumulator / step); }
+
+    public float getStep() { return step; }
+    public int getMaxStepsPerFrame() { return maxStepsPerFrame; }
+    public void setMaxStepsPerFrame(int max) { maxStepsPerFrame = Math.max(1, max); }
+    public long getDroppedSteps() { return droppedSteps; }
+    public void reset() { accumulator = 0f; }
+}
@@ -0,0 +1,461 @@
+package com.rgs.galaxyinvaders.world;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.entities.*;
+import com.rgs.galaxyinvaders.pattern.BossPatterns;
+import com.rgs.galaxyinvaders.profile.PhaseProfiler;
+import com.rgs.galaxyinvaders.replay.ReplayRecorder;
+
+/**
+ * The whole game simulation: entities, waves, collisions and scoring. It holds no textures, sounds or
+ * input devices; controls come in through an {@link InputSource} and everything to be seen or heard
+ * goes out through {@link WorldEvents}, so it runs the same with or without a libGDX backend.
+ */
+public class GameWorld {
+    private final ShipMetrics metrics;
+    private final SimRandom random;
+    private ReplayRecorder recorder = null;
+    private InputSource input = InputSource.NONE;
+    private WorldEvents events = WorldEvents.NONE;
+
+    // Entities & pools
+    private final BulletStore playerBullets = new BulletStore(128);
+    private final BulletStore enemyBullets = new BulletStore(Constants.BOSS_BULLET_LIMIT * 2);
+    private final CountingPool<PowerUp> powerUpPool = new CountingPool<PowerUp>(16, 64) { @Override protected PowerUp create() { return new PowerUp(); } };
+    private final EnemyStore enemies = new EnemyStore(64);
+    private final Array<PowerUp> powerups = new Array<>();
+    private final Player player;
+
+    private Boss boss = null;
+    private int wave = 0;
+    private int score = 0;
+    private int bossesDefeated = 0;
+    private float time = 0f; // simulated seconds, the clock enemy next-fire times are set against
+
+    // Difficulty scalars (start easy, ramp with bosses)
+    private float diffEnemySpeed = 0.8f, diffEnemyFire = 0.75f, diffSpawn = 0.75f, diffBossHP = 0.7f, diffBossFire = 0.8f;
+
+    private float slowmo = 0f;
+
+    private boolean gameOver = false;
+    private BossPatterns bossPatterns;
+    private boolean invulnerable = false; // hits still resolve, but never cost a life (benchmarks, soak runs, the bullet hell tier)
+    private boolean bulletHell = false; // bosses fire the bulletHell scripts, under BULLET_HELL_BULLET_LIMIT instead of BOSS_BULLET_LIMIT
+
+    // Collision broad-phase (false = brute-force pairs, kept for comparing results)
+    private boolean useSpatialHash = true;
+    private final SpatialHashGrid enemyGrid  = new SpatialHashGrid(Constants.W, Constants.H, 32f);
+    private final SpatialHashGrid bulletGrid = new SpatialHashGrid(Constants.W, Constants.H, 32f);
+    private final SpatialHashGrid powerGrid  = new SpatialHashGrid(Constants.W, Constants.H, 32f);
+    private final IntArray hits = new IntArray();
+    private final IntArray candidates = new IntArray();
+
+    // Chunked update for very large entity counts: loops at or over the threshold run as SIM_CHUNK-sized jobs
+    // on the runner; collision hits go into per-chunk buffers merged in chunk order, so results never depend on threads
+    private ChunkRunner chunkRunner = ChunkRunner.SERIAL;
+    private int parallelThreshold = Constants.PARALLEL_THRESHOLD;
+    private final Array<IntArray> chunkHits = new Array<>();
+    private float jobDt, jobPlayerCx;
+    private BulletStore jobBullets;
+    private final ChunkRunner.Job integrateJob = new ChunkRunner.Job() {
+        @Override public void run(int c) { jobBullets.integrate(c * Constants.SIM_CHUNK, Math.min(jobBullets.size, (c + 1) * Constants.SIM_CHUNK), jobDt); }
+    };
+    private final ChunkRunner.Job moveEnemiesJob = new ChunkRunner.Job() {
+        @Override public void run(int c) { enemies.move(c * Constants.SIM_CHUNK, Math.min(enemies.size, (c + 1) * Constants.SIM_CHUNK), jobDt, jobPlayerCx); }
+    };
+    private final ChunkRunner.Job enemyBulletHitsJob = new ChunkRunner.Job() {
+        @Override public void run(int c) {
+            IntArray out = chunkHits.get(c);
+            out.clear();
+            final BulletStore eb = enemyBullets;
+            for (int i = c * Constants.SIM_CHUNK, n = Math.min(eb.size, (c + 1) * Constants.SIM_CHUNK); i < n; i++) {
+                if (eb.overlaps(i, player)) out.add(i);
+            }
+        }
+    };
+
+    // Per-tick phase timings (off unless the debug overlay turns them on)
+    public static final int PHASE_TICK = 0, PHASE_INPUT = 1, PHASE_BOSS = 2, PHASE_ENEMIES = 3, PHASE_BROADPHASE = 4,
+        PHASE_PLAYER_BULLETS = 5, PHASE_ENEMY_BULLETS = 6, PHASE_POWERUPS = 7;
+    private final PhaseProfiler profiler = new PhaseProfiler(600,
+        "tick", "input", "boss", "enemies", "broadphase", "player bullets", "enemy bullets", "powerups");
+
+    public GameWorld(ShipMetrics metrics) { this(metrics, MathUtils.random.nextLong()); }
+
+    /** Every random decision comes from {@code seed}, so the same seed and input replay the same session. */
+    public GameWorld(ShipMetrics metrics, long seed) {
+        this.metrics = metrics;
+        this.random = new SimRandom(seed);
+        player = new Player(this, metrics);
+        nextWave();
+    }
+
+    /**
+     * Starts a new session from {@code seed} in this world (Retry), the same as a freshly built one but keeping every
+     * store, pool and grid it has grown. Input, events, boss patterns and options stay; recording has to be started again.
+     */
+    public void reset(long seed) {
+        random.reseed(seed);
+        recorder = null;
+        playerBullets.clear();
+        enemyBullets.clear();
+        enemies.clear();
+        for (int i = 0; i < powerups.size; i++) powerUpPool.free(powerups.get(i));
+        powerups.clear();
+        boss = null;
+        wave = 0;
+        score = 0;
+        bossesDefeated = 0;
+        time = 0f;
+        slowmo = 0f;
+        gameOver = false;
+        recalcDifficulty();
+        player.reset();
+        nextWave();
+    }
+
+    public void setInput(InputSource input) { this.input = input != null ? input : InputSource.NONE; }
+    public void setEvents(WorldEvents events) { this.events = events != null ? events : WorldEvents.NONE; }
+    /** Boss attack scripts (see BossPatterns); must be set before the first boss wave. */
+    public void setBossPatterns(BossPatterns bossPatterns) { this.bossPatterns = bossPatterns; }
+
+    /**
+     * Starts logging every tick's input, with the seed and the tier and invulnerable settings; call before the first
+     * update and after those settings. {@code step} is the tick length used.
+     */
+    public ReplayRecorder startRecording(float step) {
+        recorder = new ReplayRecorder(random.getSeed(), step,
+            (bulletHell ? ReplayRecorder.FLAG_BULLET_HELL : 0) | (invulnerable ? ReplayRecorder.FLAG_INVULNERABLE : 0));
+        return recorder;
+    }
+
+    // ---------- Update ----------
+    public void update(float dt) {
+        if (gameOver) return; // <<< freeze everything on subsequent frames
+        profiler.begin(PHASE_TICK);
+        profiler.begin(PHASE_INPUT);
+        if (slowmo > 0f) slowmo -= dt;
+        player.savePrevious();
+        if (boss != null) boss.savePrevious();
+        input.nextTick();
+        float axis = ReplayRecorder.quantizeAxis(input.moveAxis());
+        boolean fire = input.fire();
+        if (recorder != null) recorder.record(axis, fire);
+        player.setControls(axis, fire);
+        player.update(dt);
+        profiler.end(PHASE_INPUT);
+
+        profiler.begin(PHASE_BOSS);
+        if (boss == null && enemies.size == 0) nextWave();
+
+        if (boss != null) {
+            boss.update(dt);
+            if (boss.getHp() <= 0) {
+                score += 1000;
+                boss = null;
+                bossesDefeated++;
+                recalcDifficulty();
+                flash(0.4f);
+                slowmo = 1.2f;
+                shake(0.4f, 8f);
+                events.onBigExplosion(player.getX(), player.getY());
+            }
+        }
+
+        profiler.end(PHASE_BOSS);
+
+        // Enemies
+        profiler.begin(PHASE_ENEMIES);
+        time += dt;
+        final EnemyStore es = enemies;
+        if (es.size >= parallelThreshold) { jobDt = dt; jobPlayerCx = player.centerX(); chunkRunner.run(chunks(es.size), moveEnemiesJob); }
+        else es.move(dt, player.centerX());
+        for (int i = es.size - 1; i >= 0; i--) {
+            if (es.y[i] + es.h[i] < 0) { es.remove(i); continue; }
+            if (time >= es.nextFire[i] && random.chance(es.fireChance[i])) {
+                es.nextFire[i] = time + es.reload[i];
+                fireEnemy(es.cx(i), es.y[i]);
+            }
+        }
+
+        profiler.end(PHASE_ENEMIES);
+
+        // Broad-phase: enemies (plus the boss as id enemies.size) go into the grid once per tick.
+        // Dead enemies stay in place until the end of the collision pass so grid ids stay valid.
+        profiler.begin(PHASE_BROADPHASE);
+        int bossId = enemies.size;
+        if (useSpatialHash) {
+            enemyGrid.clear();
+            for (int i = 0; i < enemies.size; i++) enemyGrid.insert(i, enemies.x[i], enemies.y[i], enemies.w[i], enemies.h[i]);
+            if (boss != null) enemyGrid.insert(bossId, boss.getX(), boss.getY(), boss.getW(), boss.getH());
+        }
+
+        // Enemies VS player
+        hits.clear();
+        if (useSpatialHash) enemyGrid.query(player.getX(), player.getY(), player.getW(), player.getH(), hits);
+        else for (int i = 0; i < enemies.size; i++) hits.add(i);
+        hits.sort();
+        for (int k = hits.size - 1; k >= 0; k--) {
+            int idx = hits.get(k);
+            if (idx == bossId) continue;
+            if (!enemies.overlaps(idx, player)) continue;
+            enemies.kill(idx);
+            spawnExplosion(enemies.cx(idx), enemies.cy(idx));
+            hitPlayer();
+        }
+
+        profiler.end(PHASE_BROADPHASE);
+
+        // Player bullets VS enemies / boss
+        profiler.begin(PHASE_PLAYER_BULLETS);
+        integrate(playerBullets, dt);
+        for (int i = playerBullets.size - 1; i >= 0; i--) {
+            if (playerBullets.y[i] > Constants.H) { freePlayerBullet(i); continue; }
+
+            int target = findBulletTarget(i, bossId);
+            if (target >= 0 && target != bossId) {
+                enemies.damage(target, 1);
+                freePlayerBullet(i);
+                playHitSfx(0.45f);
+                if (enemies.isDead(target)) {
+                    maybeDrop(enemies.cx(target), enemies.cy(target));
+                    score += enemies.score[target];
+                    spawnExplosion(enemies.cx(target), enemies.cy(target));
+                    shake(0.08f, 2.2f);
+                }
+            } else if (target == bossId) {
+                boss.damage(1);
+                score += Constants.BOSS_HIT_SCORE;
+                playHitSfx(0.55f);
+                if (random.nextFloat() < Constants.BOSS_HIT_POWERUP_CHANCE) maybeDrop(boss.centerX(), boss.centerY());
+                freePlayerBullet(i);
+                shake(0.02f, 1.2f);
+                spawnExplosion(boss.centerX(), boss.centerY(), 0.03f, 0.25f);
+            }
+        }
+
+        // Drop everything killed this tick (downwards, so every slot refilled by remove() is already checked)
+        for (int i = enemies.size - 1; i >= 0; i--) if (enemies.isDead(i)) enemies.remove(i);
+
+        profiler.end(PHASE_PLAYER_BULLETS);
+
+        // Enemy bullets VS player
+        profiler.begin(PHASE_ENEMY_BULLETS);
+        integrate(enemyBullets, dt);
+        final BulletStore eb = enemyBullets;
+        for (int i = eb.size - 1; i >= 0; i--) {
+            if (eb.y[i] + eb.h[i] < 0) freeEnemyBullet(i);
+        }
+        hits.clear();
+        if (enemyBullets.size >= parallelThreshold) {
+            // Narrow phase straight against the player, chunk by chunk; concatenated in chunk order the hits are ascending
+            int chunks = chunks(enemyBullets.size);
+            while (chunkHits.size < chunks) chunkHits.add(new IntArray());
+            chunkRunner.run(chunks, enemyBulletHitsJob);
+            for (int c = 0; c < chunks; c++) hits.addAll(chunkHits.get(c));
+        } else if (useSpatialHash) {
+            bulletGrid.clear();
+            for (int i = 0; i < eb.size; i++) bulletGrid.insert(i, eb.x[i], eb.y[i], eb.w[i], eb.h[i]);
+            bulletGrid.query(player.getX(), player.getY(), player.getW(), player.getH(), hits);
+        } else for (int i = 0; i < enemyBullets.size; i++) hits.add(i);
+        hits.sort();
+        for (int k = hits.size - 1; k >= 0; k--) {
+            int idx = hits.get(k);
+            if (!enemyBullets.overlaps(idx, player)) continue;
+            freeEnemyBullet(idx);
+            spawnExplosion(player.centerX(), player.centerY());
+            playHitSfx(0.8f);
+            hitPlayer();
+        }
+
+        profiler.end(PHASE_ENEMY_BULLETS);
+
+        // Powerups VS player
+        profiler.begin(PHASE_POWERUPS);
+        for (int i = powerups.size - 1; i >= 0; i--) {
+            PowerUp p = powerups.get(i);
+            p.update(dt);
+            if (p.getY() + p.getSize() < 0) powerUpPool.free(powerups.removeIndex(i));
+        }
+        hits.clear();
+        if (useSpatialHash) {
+            powerGrid.clear();
+            for (int i = 0; i < powerups.size; i++) {
+                PowerUp p = powerups.get(i);
+                powerGrid.insert(i, p.getX() - p.getSize(), p.getY() - p.getSize(), p.getSize() * 2, p.getSize() * 2);
+            }
+            powerGrid.query(player.getX(), player.getY(), player.getW(), player.getH(), hits);
+        } else for (int i = 0; i < powerups.size; i++) hits.add(i);
+        hits.sort();
+        for (int k = hits.size - 1; k >= 0; k--) {
+            int idx = hits.get(k);
+            PowerUp p = powerups.get(idx);
+            if (!p.overlaps(player)) continue;
+            p.apply(player);
+            powerUpPool.free(powerups.removeIndex(idx));
+            playPickupSfx(0.9f);
+        }
+        profiler.end(PHASE_POWERUPS);
+        profiler.end(PHASE_TICK);
+    }
+
+    private void integrate(BulletStore bullets, float dt) {
+        if (bullets.size < parallelThreshold) { bullets.integrate(dt); return; }
+        jobBullets = bullets;
+        jobDt = dt;
+        chunkRunner.run(chunks(bullets.size), integrateJob);
+    }
+
+    private static int chunks(int n) { return (n + Constants.SIM_CHUNK - 1) / Constants.SIM_CHUNK; }
+
+    /**
+     * Picks what a player bullet hits this tick: the highest-index live enemy it overlaps, else the boss
+     * (returned as {@code bossId}), else -1. Both broad-phase paths resolve to the same answer.
+     */
+    private int findBulletTarget(int b, int bossId) {
+        final BulletStore pb = playerBullets;
+        if (!useSpatialHash) {
+            for (int j = enemies.size - 1; j >= 0; j--) {
+                if (!enemies.isDead(j) && enemies.overlaps(j, pb.hitX(b), pb.hitY(b), pb.hitW(b), pb.hitH(b))) return j;
+            }
+            return (boss != null && pb.overlaps(b, boss)) ? bossId : -1;
+        }
+        candidates.clear();
+        enemyGrid.query(pb.x[b], pb.y[b], pb.w[b], pb.h[b], candidates);
+        int best = -1;
+        boolean bossHit = false;
+        for (int k = 0; k < candidates.size; k++) {
+            int j = candidates.get(k);
+            if (j == bossId) { bossHit = pb.overlaps(b, boss); continue; }
+            if (j <= best) continue;
+            if (!enemies.isDead(j) && enemies.overlaps(j, pb.hitX(b), pb.hitY(b), pb.hitW(b), pb.hitH(b))) best = j;
+        }
+        return best >= 0 ? best : (bossHit ? bossId : -1);
+    }
+
+    // ---------- Spawning / Difficulty ----------
+    private void recalcDifficulty() {
+        float tier = 1f + bossesDefeated * 0.35f;
+        diffEnemySpeed = MathUtils.clamp(0.80f * tier, 0.80f, 3.0f);
+        diffEnemyFire  = MathUtils.clamp(0.75f * tier, 0.60f, 3.0f);
+        diffSpawn      = MathUtils.clamp(0.75f * tier, 0.60f, 2.5f);
+        diffBossHP     = MathUtils.clamp(0.70f * tier, 0.70f, 3.0f);
+        diffBossFire   = MathUtils.clamp(0.80f * tier, 0.70f, 3.0f);
+    }
+
+    public void nextWave() {
+        wave++;
+        if (wave % 5 == 0) {
+            spawnBoss(bossesDefeated + 1);
+            return;
+        }
+        int base = 4 + Math.round(Math.min(wave, 6) * 0.6f);
+        int count = Math.max(4, Math.round(base * diffSpawn));
+        Spawner.spawnEnemies(this, metrics, count, wave, diffEnemySpeed, diffEnemyFire);
+    }
+
+    public Boss spawnBoss(int level) {
+        if (bossPatterns == null) throw new IllegalStateException("No boss patterns set (GameWorld.setBossPatterns)");
+        boss = new Boss(this, metrics, bossPatterns.forLevel(level, bulletHell), diffBossHP, diffBossFire);
+        return boss;
+    }
+
+    /** Adds an enemy of {@code type} (see EnemyStore) with stats for {@code wave}; {@code variant} picks the sprite. */
+    public int spawnEnemy(int type, int variant, float cx, float y, int wave, float diffEnemySpeed, float diffEnemyFire) {
+        float w = 28f;
+        float firstShot = random.range(0.3f, 2f);
+        float reload = (1.1f - Math.min(0.5f, wave * 0.02f)) / Math.max(0.6f, diffEnemyFire);
+        if (type == EnemyStore.CHASER) reload *= 0.85f;
+        return enemies.add(type, variant, cx - w/2f, y, w, w * metrics.enemyAspect(variant),
+            (type == EnemyStore.SHOOTER && wave > 6) ? 2 : 1, (45f + wave * 3f) * diffEnemySpeed,
+            time + firstShot, reload, (0.03f + wave * 0.0015f) * diffEnemyFire, 20 + wave * 3);
+    }
+
+    // ---------- Events ----------
+    private void hitPlayer() {
+        if (invulnerable) return;
+        if (player.consumeShieldIfAny()) { shake(0.15f, 4f); return; }
+        player.loseLife();
+        shake(0.25f, 6f);
+        if (player.getLives() <= 0) {
+            gameOver = true;
+            events.onGameOver(score);
+        } else {
+            player.blink(1.2f);
+        }
+    }
+
+    public void maybeDrop(float x, float y) {
+        float r = random.nextFloat();
+        if (r < 0.10f) dropPowerUp(PowerUpType.RAPID, x, y);
+        else if (r < 0.18f) dropPowerUp(PowerUpType.SPREAD, x, y);
+        else if (r < 0.24f) dropPowerUp(PowerUpType.SHIELD, x, y);
+        else if (r < 0.28f) dropPowerUp(PowerUpType.LIFE, x, y);
+    }
+
+    private void dropPowerUp(PowerUpType type, float x, float y) {
+        powerups.add(powerUpPool.obtain().set(type, x, y));
+    }
+
+    public void spawnExplosion(float cx, float cy) { spawnExplosion(cx, cy, 0.05f, 0.7f); }
+    public void spawnExplosion(float cx, float cy, float frameDur, float scale) { events.onExplosion(cx, cy, frameDur, scale); }
+
+    // ---------- Shooting ----------
+    public void firePlayer(float x, float y) { firePlayer(x, y, 0f); }
+    public void firePlayer(float x, float y, float vx) { playerBullets.add(x - 3.5f, y, 7f, 7f, vx, 420f); }
+    public void fireEnemy(float x, float y) { enemyBullets.add(x - 4f, y - 4f, 8f, 8f, 0f, -260f); }
+    /** Boss shots: 8px bullet centred on (cx, cy). */
+    public void fireBoss(float cx, float cy, float vx, float vy) { enemyBullets.add(cx - 4f, cy - 4f, 8f, 8f, vx, vy); }
+
+    public boolean bossBulletCapReached() { return enemyBullets.size >= (bulletHell ? Constants.BULLET_HELL_BULLET_LIMIT : Constants.BOSS_BULLET_LIMIT); }
+
+    public void freePlayerBullet(int idx) { playerBullets.removeSwap(idx); }
+    public void freeEnemyBullet(int idx) { enemyBullets.removeSwap(idx); }
+
+    // ---------- Feedback ----------
+    public void shake(float t, float s) { events.onShake(t, s); }
+    public void flash(float t) { events.onFlash(t); }
+    public float getTimeScale() { return slowmo > 0 ? 0.25f : 1f; }
+
+    private void playPickupSfx(float vol) { events.onSound(SoundCue.PICKUP, vol); }
+    private void playHitSfx(float vol) { events.onSound(SoundCue.HIT, vol); }
+
+    // ---------- Getters ----------
+    public Player getPlayer() { return player; }
+    public Boss getBoss() { return boss; }
+    public EnemyStore getEnemies() { return enemies; }
+    public BulletStore getPlayerBullets() { return playerBullets; }
+    public BulletStore getEnemyBullets() { return enemyBullets; }
+    public Array<PowerUp> getPowerUps() { return powerups; }
+    public CountingPool<PowerUp> getPowerUpPool() { return powerUpPool; }
+    public int getScore() { return score; }
+    public int getWave() { return wave; }
+    public int getBossesDefeated() { return bossesDefeated; }
+    public ShipMetrics getShipMetrics() { return metrics; }
+    public SimRandom random() { return random; }
+    public long getSeed() { return random.getSeed(); }
+    public ReplayRecorder getRecorder() { return recorder; }
+    public PhaseProfiler getProfiler() { return profiler; }
+    public boolean isGameOver() { return gameOver; }
+    public boolean isInvulnerable() { return invulnerable; }
+    public void setInvulnerable(boolean invulnerable) { this.invulnerable = invulnerable; }
+
+    /**
+     * Bullet hell tier: bosses fire the {@code bulletHell} scripts (see BossPatterns) and the boss bullet cap rises to
+     * BULLET_HELL_BULLET_LIMIT. Set it before {@link #startRecording}, which logs it.
+     */
+    public void setBulletHell(boolean bulletHell) { this.bulletHell = bulletHell; }
+    public boolean isBulletHell() { return bulletHell; }
+
+    /** Where chunked loops run (see ChunkRunner); results are the same for any runner. */
+    public void setChunkRunner(ChunkRunner runner) { this.chunkRunner = runner != null ? runner : ChunkRunner.SERIAL; }
+    /** Entity count from which a loop is chunked; {@link Integer#MAX_VALUE} keeps everything on the plain path. */
+    public void setParallelThreshold(int threshold) { this.parallelThreshold = Math.max(1, threshold); }
+    public int getParallelThreshold() { return parallelThreshold; }
+
+    public boolean isSpatialHashEnabled() { return useSpatialHash; }
+    public void setSpatialHashEnabled(boolean enabled) { useSpatialHash = enabled; }
+}
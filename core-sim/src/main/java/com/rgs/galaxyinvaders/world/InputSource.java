@@ -0,0 +1,21 @@
+package com.rgs.galaxyinvaders.world;
+
+/**
+ * Where the player's controls come from. The world samples it once per update, so the simulation never
+ * polls a backend directly; screens plug in keyboard/touch, and headless runs plug in scripts or replays.
+ */
+public interface InputSource {
+    InputSource NONE = new InputSource() {
+        @Override public float moveAxis() { return 0f; }
+        @Override public boolean fire() { return false; }
+    };
+
+    /** Called once at the start of every simulation tick, before the controls are read. */
+    default void nextTick() {}
+
+    /** Horizontal steering intent, -1 (left) .. 1 (right). */
+    float moveAxis();
+
+    /** True while the fire control is held. */
+    boolean fire();
+}
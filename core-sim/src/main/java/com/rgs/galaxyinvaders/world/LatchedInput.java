@@ -0,0 +1,15 @@
+package com.rgs.galaxyinvaders.world;
+
+/**
+ * Controls handed from the render thread to the simulation: latched once per frame, read by every tick after that.
+ * Ticks see whatever was latched last, so a threaded simulation never polls the input backend itself.
+ */
+public class LatchedInput implements InputSource {
+    private volatile float axis;
+    private volatile boolean fire;
+
+    public void latch(float axis, boolean fire) { this.axis = axis; this.fire = fire; }
+
+    @Override public float moveAxis() { return axis; }
+    @Override public boolean fire() { return fire; }
+}
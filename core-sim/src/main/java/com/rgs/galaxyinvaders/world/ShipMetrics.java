@@ -0,0 +1,16 @@
+package com.rgs.galaxyinvaders.world;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Ship proportions (height / width) the simulation needs to size hitboxes, without holding textures.
+ * The game fills this from its loaded sprites; headless runs use the square defaults.
+ * Enemy variants are indexed like the renderer's enemy sprites; with none, enemies use {@link #playerAspect}.
+ */
+public class ShipMetrics {
+    public float playerAspect = 1f;
+    public float bossAspect = 1f;
+    public final FloatArray enemyAspects = new FloatArray();
+
+    public float enemyAspect(int variant) { return variant >= 0 ? enemyAspects.get(variant) : playerAspect; }
+}
@@ -0,0 +1,25 @@
+package com.rgs.galaxyinvaders.world;
+
+/**
+ * Where a {@link SimulationLoop} ticks. {@link #INLINE} leaves it to the screen's render() (required on the web,
+ * which has no threads); JVM platforms can run it on a thread of its own (see the sim-threads module).
+ */
+public interface SimDriver {
+    SimDriver INLINE = new SimDriver() {
+        @Override public boolean isThreaded() { return false; }
+        @Override public void start(SimulationLoop loop) {}
+        @Override public void stop() {}
+        @Override public void wake() {}
+    };
+
+    boolean isThreaded();
+
+    /** Starts ticking {@code loop} until {@link #stop()}; one loop at a time. */
+    void start(SimulationLoop loop);
+
+    /** Stops ticking and waits for the tick in progress, so the world is safe to touch afterwards. */
+    void stop();
+
+    /** The loop was set running again; a driver idling while it was stopped should resume ticking. */
+    void wake();
+}
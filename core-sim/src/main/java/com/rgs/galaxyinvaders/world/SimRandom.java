@@ -0,0 +1,29 @@
+package com.rgs.galaxyinvaders.world;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Per-world random stream. Same helpers as {@code MathUtils.random*}, but seeded and owned by one
+ * {@link GameWorld}, so a seed plus the input log reproduces a session exactly and worlds can run side by side.
+ */
+public class SimRandom extends RandomXS128 {
+    private long seed;
+
+    public SimRandom(long seed) {
+        super(seed);
+        this.seed = seed;
+    }
+
+    public long getSeed() { return seed; }
+
+    /** Restarts the stream as if freshly built with {@code seed}. */
+    public void reseed(long seed) {
+        setSeed(seed);
+        this.seed = seed;
+    }
+
+    /** Inclusive on both ends. */
+    public int range(int start, int end) { return start + nextInt(end - start + 1); }
+    public float range(float start, float end) { return start + nextFloat() * (end - start); }
+    public boolean chance(float p) { return nextFloat() < p; }
+}
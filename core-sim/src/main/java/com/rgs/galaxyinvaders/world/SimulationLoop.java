@@ -0,0 +1,100 @@
+package com.rgs.galaxyinvaders.world;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.rgs.galaxyinvaders.snapshot.RenderSnapshot;
+import com.rgs.galaxyinvaders.snapshot.SnapshotExchange;
+
+/**
+ * A screen's simulation: fixed-step ticks of one world, each batch of ticks ending in a published
+ * {@link RenderSnapshot}. The {@link SimDriver} decides whether the ticks run inline in {@link #frame} or on a
+ * thread of their own; either way the render thread only reads snapshots, and only {@link #setRunning} and a
+ * {@link LatchedInput} cross from it into the simulation.
+ */
+public class SimulationLoop {
+    private final GameWorld world;
+    private final FixedStepClock clock;
+    private final SimDriver driver;
+    private final SnapshotExchange snapshots = new SnapshotExchange();
+    private volatile boolean running = true;
+    private volatile Throwable failure;
+    private boolean resumedInline; // render thread: the next frame's delta spans the stop
+
+    /** Takes over the world's event sink; events reach the screen through {@link #acquire}. */
+    public SimulationLoop(GameWorld world, FixedStepClock clock, SimDriver driver) {
+        this.world = world;
+        this.clock = clock;
+        this.driver = driver;
+        world.setEvents(snapshots);
+        snapshots.publish(world); // something to draw before the first tick
+    }
+
+    public void start() { driver.start(this); }
+    public void stop() { driver.stop(); }
+
+    /**
+     * After {@link GameWorld#reset}, with the loop stopped: drops leftover time and undelivered events of the old
+     * session and publishes the new one, so nothing from before the reset is drawn or heard.
+     */
+    public void restart() {
+        clock.reset();
+        failure = null;
+        snapshots.reset(world);
+    }
+
+    /** Render thread, once per frame: ticks inline, or rethrows whatever stopped the simulation thread. */
+    public void frame(float delta) {
+        if (failure != null) throw new GdxRuntimeException("Simulation thread failed", failure);
+        if (driver.isThreaded()) return;
+        if (resumedInline) {
+            // on-demand rendering leaves seconds between the last stopped frame and this one
+            resumedInline = false;
+            clock.reset();
+            delta = 0f;
+        }
+        advance(delta);
+    }
+
+    /**
+     * Ticking side: runs the whole steps {@code frameDelta} seconds cover (scaled by the world's time scale,
+     * nothing while stopped) and publishes a snapshot if any ran.
+     */
+    public int advance(float frameDelta) {
+        int steps = clock.advance(running ? frameDelta * world.getTimeScale() : 0f);
+        for (int i = 0; i < steps; i++) world.update(clock.getStep());
+        if (steps > 0) snapshots.publish(world);
+        return steps;
+    }
+
+    /** Render thread: the newest snapshot; events of one not seen before are replayed into {@code events} first. */
+    public RenderSnapshot acquire(WorldEvents events) { return snapshots.acquire(events); }
+
+    /**
+     * How far (0..1) to draw {@code s} between its previous and current step: the clock's leftover when ticked
+     * inline, the time since it was published when threaded (drawing then trails the simulation by up to a step).
+     */
+    public float alpha(RenderSnapshot s) {
+        if (!driver.isThreaded()) return clock.getAlpha();
+        return Math.min(1f, (TimeUtils.nanoTime() - s.publishedNanos) * MathUtils.nanoToSec / clock.getStep());
+    }
+
+    /** Ticking side: seconds of wall time until the next step is due at full speed. */
+    public float timeToNextStep() { return (1f - clock.getAlpha()) * clock.getStep(); }
+
+    /** Paused or game over: time stops accumulating, so resuming does not replay the gap. */
+    public void setRunning(boolean running) {
+        boolean resumed = running && !this.running;
+        this.running = running;
+        if (!resumed) return;
+        resumedInline = !driver.isThreaded();
+        driver.wake();
+    }
+    public boolean isRunning() { return running; }
+
+    /** Ticking side: records what ended the thread, for {@link #frame} to rethrow on the render thread. */
+    public void fail(Throwable t) { failure = t; }
+
+    public GameWorld getWorld() { return world; }
+    public float getStep() { return clock.getStep(); }
+}
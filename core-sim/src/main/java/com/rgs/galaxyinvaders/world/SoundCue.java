@@ -0,0 +1,4 @@
+package com.rgs.galaxyinvaders.world;
+
+/** Sound effects the simulation can ask for; the presentation layer maps them to actual sounds. */
+public enum SoundCue { HIT, PICKUP }
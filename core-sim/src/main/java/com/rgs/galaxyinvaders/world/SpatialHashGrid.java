@@ -0,0 +1,82 @@
+package com.rgs.galaxyinvaders.world;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid broad-phase over a fixed playfield.
+ * Entities are inserted by integer id (usually their index in the owning Array) with an AABB,
+ * then queried with another AABB. Each query returns every id whose box touches a cell the query
+ * box touches, each id at most once. Boxes outside the playfield are clamped into the border cells.
+ * The grid is meant to be cleared and rebuilt every tick; it never allocates once warmed up.
+ */
+public class SpatialHashGrid {
+    private final float invCell;
+    private final int cols, rows;
+    private final int[] head;              // first entry per cell, -1 = empty
+
+    private int[] next = new int[256];     // entry -> next entry in the same cell
+    private int[] entryId = new int[256];  // entry -> inserted id
+    private int entries = 0;
+
+    private int[] stamp = new int[64];     // id -> last query that reported it
+    private int queryStamp = 0;
+
+    public SpatialHashGrid(float width, float height, float cellSize) {
+        this.invCell = 1f / cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.head = new int[cols * rows];
+        Arrays.fill(head, -1);
+    }
+
+    public void clear() {
+        Arrays.fill(head, -1);
+        entries = 0;
+    }
+
+    public void insert(int id, float x, float y, float w, float h) {
+        if (id >= stamp.length) stamp = Arrays.copyOf(stamp, Math.max(id + 1, stamp.length * 2));
+        int c0 = col(x), c1 = col(x + w), r0 = row(y), r1 = row(y + h);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                if (entries == next.length) {
+                    next = Arrays.copyOf(next, entries * 2);
+                    entryId = Arrays.copyOf(entryId, entries * 2);
+                }
+                int cell = r * cols + c;
+                entryId[entries] = id;
+                next[entries] = head[cell];
+                head[cell] = entries++;
+            }
+        }
+    }
+
+    /** Appends to {@code out} (without clearing it) every id that may overlap the given box. */
+    public void query(float x, float y, float w, float h, IntArray out) {
+        int q = ++queryStamp;
+        if (q == 0) { Arrays.fill(stamp, 0); q = queryStamp = 1; } // wrapped after ~4 billion queries
+        int c0 = col(x), c1 = col(x + w), r0 = row(y), r1 = row(y + h);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                for (int e = head[r * cols + c]; e != -1; e = next[e]) {
+                    int id = entryId[e];
+                    if (stamp[id] == q) continue;
+                    stamp[id] = q;
+                    out.add(id);
+                }
+            }
+        }
+    }
+
+    private int col(float x) {
+        int c = (int) (x * invCell);
+        return x < 0 ? 0 : (c >= cols ? cols - 1 : c);
+    }
+
+    private int row(float y) {
+        int r = (int) (y * invCell);
+        return y < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+}
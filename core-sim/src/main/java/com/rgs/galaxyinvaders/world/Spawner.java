@@ -0,0 +1,18 @@
+package com.rgs.galaxyinvaders.world;
+
+import com.rgs.galaxyinvaders.config.Constants;
+
+public final class Spawner {
+    private Spawner() {}
+    public static void spawnEnemies(GameWorld world, ShipMetrics metrics, int count, int wave, float diffEnemySpeed, float diffEnemyFire) {
+        SimRandom rnd = world.random();
+        for (int i = 0; i < count; i++) {
+            int type = rnd.range(0, EnemyStore.TYPES - 1);
+            float x = rnd.range(40, Constants.W - 80);
+            float y = Constants.H + rnd.range(30, 200);
+            int variants = metrics.enemyAspects.size;
+            int variant = variants > 0 ? rnd.range(0, variants - 1) : -1;
+            world.spawnEnemy(type, variant, x, y, wave, diffEnemySpeed, diffEnemyFire);
+        }
+    }
+}
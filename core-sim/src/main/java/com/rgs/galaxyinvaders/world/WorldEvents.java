@@ -0,0 +1,23 @@
+package com.rgs.galaxyinvaders.world;
+
+/**
+ * Event sink for everything the simulation wants presented but must not do itself:
+ * sounds, explosion sprites, camera feedback and the final score. All methods default to no-ops,
+ * so headless runs can pass {@link #NONE} or override only what they count.
+ */
+public interface WorldEvents {
+    WorldEvents NONE = new WorldEvents() {};
+
+    default void onSound(SoundCue cue, float volume) {}
+
+    /** Small explosion centred on (cx, cy); {@code frameDuration <= 0} means the sequence's own timing. */
+    default void onExplosion(float cx, float cy, float frameDuration, float scale) {}
+
+    /** Boss-kill explosion. */
+    default void onBigExplosion(float cx, float cy) {}
+
+    default void onShake(float time, float strength) {}
+    default void onFlash(float time) {}
+
+    default void onGameOver(int score) {}
+}
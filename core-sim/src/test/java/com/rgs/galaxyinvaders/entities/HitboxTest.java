@@ -0,0 +1,99 @@
+package com.rgs.galaxyinvaders.entities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.world.BulletStore;
+import com.rgs.galaxyinvaders.world.SpatialHashGrid;
+
+/**
+ * The primitive overlap tests that replaced {@code rect()}: same answers as {@code Rectangle.overlaps}, bullets
+ * shrunk by {@link Constants#BULLET_HITBOX_SCALE}, and a collision frame shaped like GameWorld's (grid rebuild,
+ * query, narrow phase) that allocates nothing.
+ */
+public class HitboxTest {
+    private static final int FRAMES = 2000;
+
+    private static final class Box extends GameObject {
+        Box(float x, float y, float w, float h) { this.x = x; this.y = y; this.w = w; this.h = h; }
+        @Override public void update(float dt) {}
+    }
+
+    @Test
+    public void agreesWithRectangle() {
+        RandomXS128 random = new RandomXS128(2);
+        Rectangle a = new Rectangle(), b = new Rectangle();
+        for (int i = 0; i < 100000; i++) {
+            // Whole numbers on a small grid, so touching edges come up often
+            a.set(random.nextInt(20), random.nextInt(20), random.nextInt(8), random.nextInt(8));
+            b.set(random.nextInt(20), random.nextInt(20), random.nextInt(8), random.nextInt(8));
+            assertEquals(a + " / " + b, a.overlaps(b), Hitbox.overlaps(a.x, a.y, a.width, a.height, b.x, b.y, b.width, b.height));
+        }
+    }
+
+    @Test
+    public void bulletsHitWithTheirShrunkCentre() {
+        BulletStore b = new BulletStore(1);
+        int i = b.add(100f, 100f, 10f, 20f, 0f, 0f);
+        float s = Constants.BULLET_HITBOX_SCALE;
+        assertEquals(10f * s, b.hitW(i), 1e-5f);
+        assertEquals(20f * s, b.hitH(i), 1e-5f);
+        assertEquals(b.cx(i), b.hitX(i) + b.hitW(i) / 2f, 1e-4f);
+        assertEquals(b.cy(i), b.hitY(i) + b.hitH(i) / 2f, 1e-4f);
+        // Grazes the sprite but misses the hitbox, then touches the hitbox
+        assertTrue(!b.overlaps(i, new Box(109f, 100f, 10f, 10f)));
+        assertTrue(b.overlaps(i, new Box(107.5f, 100f, 10f, 10f)));
+    }
+
+    @Test
+    public void collisionFramesAllocateNothing() {
+        RandomXS128 random = new RandomXS128(7);
+        Box[] enemies = new Box[60];
+        BulletStore bullets = new BulletStore(400);
+        for (int i = 0; i < enemies.length; i++) enemies[i] = new Box(random.nextFloat() * Constants.W, random.nextFloat() * Constants.H, 40f, 30f);
+        for (int i = 0; i < 400; i++) bullets.add(random.nextFloat() * Constants.W, random.nextFloat() * Constants.H, 6f, 14f, 0f, 400f);
+        SpatialHashGrid grid = new SpatialHashGrid(Constants.W, Constants.H, 32f);
+        IntArray candidates = new IntArray();
+        int hits = frames(enemies, bullets, grid, candidates); // grows the grid's cells and the candidate list
+
+        long calibration = -allocatedBytes() + allocatedBytes(); // the probe's own cost
+        long before = allocatedBytes();
+        hits = frames(enemies, bullets, grid, candidates);
+        long allocated = allocatedBytes() - before - calibration;
+
+        assertTrue("frames had hits", hits > 0);
+        assertEquals("bytes allocated over " + FRAMES + " collision frames", 0L, allocated);
+    }
+
+    /** Every bullet against the enemies the grid offers, the way GameWorld resolves player bullets. */
+    private static int frames(Box[] enemies, BulletStore bullets, SpatialHashGrid grid, IntArray candidates) {
+        int hits = 0;
+        for (int f = 0; f < FRAMES; f++) {
+            grid.clear();
+            for (int i = 0; i < enemies.length; i++) {
+                Box e = enemies[i];
+                e.y = (e.y + 1f) % Constants.H;
+                grid.insert(i, e.getX(), e.getY(), e.getW(), e.getH());
+            }
+            for (int b = 0; b < bullets.size; b++) {
+                bullets.y[b] = (bullets.y[b] + 3f) % Constants.H;
+                candidates.clear();
+                grid.query(bullets.x[b], bullets.y[b], bullets.w[b], bullets.h[b], candidates);
+                for (int k = 0; k < candidates.size; k++) if (bullets.overlaps(b, enemies[candidates.get(k)])) hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
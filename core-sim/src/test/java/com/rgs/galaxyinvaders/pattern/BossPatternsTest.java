@@ -0,0 +1,101 @@
+package com.rgs.galaxyinvaders.pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.world.BulletStore;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.TestWorlds;
+
+/** The shipped boss scripts: the original seven bosses, the bullet hell set, every bullet falling, firing without allocation. */
+public class BossPatternsTest {
+    private static final float[] PHASES = { 1f, 0.5f, 0.1f };
+
+    @Test
+    public void laterBossesRepeatTheLastScript() {
+        BossPatterns patterns = TestWorlds.patterns();
+        assertEquals(7, patterns.getScriptCount());
+        for (int level = 1; level <= 7; level++) assertEquals(level, patterns.forLevel(level).getLevel());
+        assertSame(patterns.forLevel(7), patterns.forLevel(8));
+        assertSame(patterns.forLevel(7), patterns.forLevel(40));
+        assertSame(patterns.forLevel(7), patterns.forLevel(7, false));
+    }
+
+    @Test
+    public void bulletHellHasItsOwnScripts() {
+        BossPatterns patterns = TestWorlds.patterns();
+        assertTrue(patterns.getBulletHellScriptCount() > 0);
+        for (int level = 1; level <= 10; level++) assertNotSame(patterns.forLevel(level), patterns.forLevel(level, true));
+        BossPatterns plain = parse("{ \"type\": \"fan\", \"count\": 5, \"from\": 30, \"to\": 150, \"speed\": 110 }");
+        assertSame("no bulletHell list: the normal scripts", plain.forLevel(1), plain.forLevel(1, true));
+    }
+
+    /** Enemy bullets only despawn below the screen; one that climbs or hovers would hold a slot of the cap for good. */
+    @Test
+    public void everyShippedBulletFalls() {
+        GameWorld world = TestWorlds.world(3L);
+        world.setBulletHell(true); // the higher cap, so a dense burst is checked whole
+        BulletStore eb = world.getEnemyBullets();
+        for (boolean bulletHell : new boolean[] { false, true }) {
+            for (int level = 1; level <= 7; level++) {
+                for (float hp : PHASES) {
+                    BossScript.Phase phase = TestWorlds.patterns().forLevel(level, bulletHell).phaseFor(hp);
+                    for (float t = 0f; t < 4f; t += 0.05f) {
+                        eb.clear();
+                        phase.fire(world, Constants.W * t / 4f, Constants.H - 100f, t);
+                        assertTrue(eb.size > 0);
+                        for (int i = 0; i < eb.size; i++) {
+                            assertTrue((bulletHell ? "bullet hell " : "") + "level " + level + " at " + hp + ": vy " + eb.vy[i], eb.vy[i] < 0f);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsRingsWithoutLateral() {
+        parse("{ \"type\": \"ring\", \"count\": 16, \"speed\": 110 }");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsFansThatLeaveTheLowerHalf() {
+        parse("{ \"type\": \"fan\", \"count\": 5, \"from\": 0, \"to\": 180, \"speed\": 110 }");
+    }
+
+    @Test
+    public void acceptsDownwardFansWithoutLateral() {
+        parse("{ \"type\": \"fan\", \"count\": 5, \"from\": 30, \"to\": 150, \"speed\": 110 }");
+    }
+
+    @Test
+    public void firingAllocatesNothing() {
+        GameWorld world = TestWorlds.world(4L);
+        fireAll(world); // grows the bullet store to its peak
+        long calibration = -TestWorlds.allocatedBytes() + TestWorlds.allocatedBytes();
+        long before = TestWorlds.allocatedBytes();
+        fireAll(world);
+        assertEquals(0L, TestWorlds.allocatedBytes() - before - calibration);
+    }
+
+    private static void fireAll(GameWorld world) {
+        for (int level = 1; level <= 7; level++) {
+            for (float hp : PHASES) {
+                BossScript.Phase phase = TestWorlds.patterns().forLevel(level).phaseFor(hp);
+                for (int k = 0; k < 200; k++) {
+                    world.getEnemyBullets().clear();
+                    phase.fire(world, Constants.W / 2f, Constants.H - 100f, k * 0.05f);
+                }
+            }
+        }
+    }
+
+    private static BossPatterns parse(String emitter) {
+        return BossPatterns.parse("{ \"bosses\": [ { \"level\": 1, \"phases\": [ { \"interval\": 1, \"emit\": [ " + emitter + " ] } ] } ] }");
+    }
+}
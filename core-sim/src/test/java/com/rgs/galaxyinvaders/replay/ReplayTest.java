@@ -0,0 +1,120 @@
+package com.rgs.galaxyinvaders.replay;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.ShipMetrics;
+import com.rgs.galaxyinvaders.world.TestWorlds;
+import com.rgs.galaxyinvaders.world.WorldEvents;
+
+/** A seed plus the recorded input log must re-run a session bit for bit. */
+public class ReplayTest {
+    private static final float STEP = 1f / Constants.SIM_HZ;
+
+    @Test
+    public void recordedSessionsReplayExactly() {
+        for (long seed = 1; seed <= 5; seed++) {
+            GameWorld live = TestWorlds.world(seed);
+            live.setInput(TestWorlds.scriptedInput(seed * 7919));
+            ReplayRecorder recorder = live.startRecording(STEP);
+            for (int t = 0; t < 60000 && !live.isGameOver(); t++) live.update(STEP);
+
+            GameWorld replayed = ReplayPlayer.play(recorder.toBytes(), new ShipMetrics(), TestWorlds.patterns(), WorldEvents.NONE);
+            assertEquals("seed " + seed, TestWorlds.fingerprint(live), TestWorlds.fingerprint(replayed));
+        }
+    }
+
+    /** Invulnerable, so the session runs long enough to go through boss waves and their scripted patterns. */
+    @Test
+    public void bossWavesReplayExactly() {
+        GameWorld live = TestWorlds.world(99L);
+        live.setInvulnerable(true);
+        live.setInput(TestWorlds.scriptedInput(5L));
+        ReplayRecorder recorder = live.startRecording(STEP);
+        for (int t = 0; t < 60000; t++) live.update(STEP);
+        assertTrue("reached a boss: " + TestWorlds.fingerprint(live), live.getWave() >= 5);
+
+        ReplayPlayer replay = new ReplayPlayer(recorder.toBytes());
+        GameWorld replayed = TestWorlds.world(replay.getSeed());
+        replayed.setInvulnerable(replay.isInvulnerable());
+        replayed.setInput(replay);
+        for (int t = 0; t < replay.getTicks(); t++) replayed.update(replay.getStep());
+        assertTrue(replay.isFinished());
+        assertEquals(TestWorlds.fingerprint(live), TestWorlds.fingerprint(replayed));
+    }
+
+    /** The log carries the tier, so playback rebuilds a bullet hell session without being told. */
+    @Test
+    public void bulletHellSessionsReplayExactly() {
+        GameWorld live = TestWorlds.world(7L);
+        live.setBulletHell(true);
+        live.setInvulnerable(true);
+        live.setInput(TestWorlds.scriptedInput(8L));
+        ReplayRecorder recorder = live.startRecording(STEP);
+        for (int t = 0; t < 80 * 120; t++) live.update(STEP);
+        assertTrue("into the boss rain: " + TestWorlds.fingerprint(live), live.getEnemyBullets().size > 1000);
+
+        GameWorld replayed = ReplayPlayer.play(recorder.toBytes(), new ShipMetrics(), TestWorlds.patterns(), WorldEvents.NONE);
+        assertTrue(replayed.isBulletHell() && replayed.isInvulnerable());
+        assertEquals(TestWorlds.fingerprint(live), TestWorlds.fingerprint(replayed));
+    }
+
+    @Test
+    public void headerRoundTrips() {
+        ReplayRecorder recorder = new ReplayRecorder(0x0123456789ABCDEFL, STEP, ReplayRecorder.FLAG_BULLET_HELL);
+        for (int t = 0; t < 1000; t++) recorder.record(ReplayRecorder.quantizeAxis((t % 50) / 25f - 1f), t % 3 == 0);
+        ReplayPlayer player = new ReplayPlayer(recorder.toBytes());
+        assertEquals(0x0123456789ABCDEFL, player.getSeed());
+        assertEquals(STEP, player.getStep(), 0f);
+        assertEquals(1000, player.getTicks());
+        assertTrue(player.isBulletHell());
+        assertFalse(player.isInvulnerable());
+        for (int t = 0; t < 1000; t++) {
+            player.nextTick();
+            assertEquals("axis at " + t, ReplayRecorder.quantizeAxis((t % 50) / 25f - 1f), player.moveAxis(), 0f);
+            assertEquals("fire at " + t, t % 3 == 0, player.fire());
+        }
+        player.nextTick(); // past the end the controls read as released
+        assertEquals(0f, player.moveAxis(), 0f);
+        assertFalse(player.fire());
+    }
+
+    @Test
+    public void seedsDecideTheSession() {
+        GameWorld a = TestWorlds.world(1L), b = TestWorlds.world(1L), c = TestWorlds.world(2L);
+        for (int t = 0; t < 3000; t++) { a.update(STEP); b.update(STEP); c.update(STEP); }
+        assertEquals(TestWorlds.fingerprint(a), TestWorlds.fingerprint(b));
+        assertNotEquals(TestWorlds.fingerprint(a), TestWorlds.fingerprint(c));
+    }
+
+    /** Logs from before the flags word (magic GIR1) still play, as normal-tier sessions. */
+    @Test
+    public void readsVersionOneLogs() {
+        ReplayRecorder recorder = new ReplayRecorder(42L, STEP);
+        for (int t = 0; t < 300; t++) recorder.record(t < 150 ? 1f : -1f, true);
+        byte[] v2 = recorder.toBytes();
+        byte[] v1 = new byte[v2.length - 4];
+        System.arraycopy(v2, 0, v1, 0, 20);
+        System.arraycopy(v2, 24, v1, 20, v2.length - 24);
+        v1[3] = '1';
+        ReplayPlayer player = new ReplayPlayer(v1);
+        assertEquals(42L, player.getSeed());
+        assertFalse(player.isBulletHell());
+        for (int t = 0; t < 300; t++) {
+            player.nextTick();
+            assertEquals(t < 150 ? 1f : -1f, player.moveAxis(), 0f);
+        }
+        assertTrue(player.isFinished());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsForeignBytes() {
+        new ReplayPlayer(new byte[64]);
+    }
+}
@@ -0,0 +1,102 @@
+package com.rgs.galaxyinvaders.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.rgs.galaxyinvaders.config.Constants;
+
+/**
+ * The chunked update path against the plain one, and the bullet hell tier that needs it. core-sim cannot see
+ * sim-threads, so the threaded runner here is a plain ExecutorService that runs the chunks in reverse order.
+ */
+public class ChunkedUpdateTest {
+    private static final float STEP = 1f / Constants.SIM_HZ;
+    private static final int TICKS = 90 * 120; // 90 s: through wave 4 and into the first bullet hell boss
+
+    @Test
+    public void threadedChunksMatchTheSerialPath() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            ThreadedRunner runner = new ThreadedRunner(pool);
+            GameWorld serial = hellWorld(11L), chunked = hellWorld(11L);
+            serial.setParallelThreshold(Integer.MAX_VALUE);
+            chunked.setChunkRunner(runner);
+            chunked.setParallelThreshold(1); // every loop chunked, however small
+            for (int t = 0; t < TICKS; t++) {
+                serial.update(STEP);
+                chunked.update(STEP);
+                if (t % 120 == 0) assertEquals("tick " + t, TestWorlds.fingerprint(serial), TestWorlds.fingerprint(chunked));
+            }
+            assertEquals(TestWorlds.fingerprint(serial), TestWorlds.fingerprint(chunked));
+            assertTrue("the boss filled several chunks: " + runner.maxChunks, runner.maxChunks >= 4);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** The tier exists to push the bullet loops past PARALLEL_THRESHOLD; at the default threshold it must get there. */
+    @Test
+    public void bulletHellSustainsTenThousandBullets() {
+        final int[] chunkedCalls = new int[1];
+        GameWorld world = hellWorld(3L);
+        world.setChunkRunner(new ChunkRunner() {
+            @Override public void run(int chunks, Job job) { chunkedCalls[0]++; ChunkRunner.SERIAL.run(chunks, job); }
+        });
+        int peak = 0, ticksOver = 0;
+        for (int t = 0; t < 150 * 120; t++) {
+            world.update(STEP);
+            peak = Math.max(peak, world.getEnemyBullets().size);
+            if (world.getEnemyBullets().size >= 10000) ticksOver++;
+        }
+        assertTrue("peak " + peak, peak >= 10000 && peak <= Constants.BULLET_HELL_BULLET_LIMIT);
+        assertTrue("held over 10k for " + ticksOver / Constants.SIM_HZ + " s", ticksOver >= 30 * 120);
+        assertTrue("chunked path engaged", chunkedCalls[0] > 0);
+    }
+
+    private static GameWorld hellWorld(long seed) {
+        GameWorld world = TestWorlds.world(seed);
+        world.setBulletHell(true);
+        world.setInvulnerable(true);
+        world.setInput(TestWorlds.scriptedInput(seed * 7919));
+        return world;
+    }
+
+    /** Chunks as pool tasks, submitted last to first so any order dependence shows. */
+    private static final class ThreadedRunner implements ChunkRunner {
+        private final ExecutorService pool;
+        private final List<Callable<Void>> tasks = new ArrayList<>();
+        int maxChunks;
+
+        ThreadedRunner(ExecutorService pool) { this.pool = pool; }
+
+        @Override
+        public void run(int chunks, final Job job) {
+            maxChunks = Math.max(maxChunks, chunks);
+            tasks.clear();
+            for (int c = chunks - 1; c >= 0; c--) {
+                final int chunk = c;
+                tasks.add(new Callable<Void>() {
+                    @Override public Void call() { job.run(chunk); return null; }
+                });
+            }
+            try {
+                for (Future<Void> f : pool.invokeAll(tasks)) f.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
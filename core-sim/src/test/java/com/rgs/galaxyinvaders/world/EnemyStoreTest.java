@@ -0,0 +1,95 @@
+package com.rgs.galaxyinvaders.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * The type partitions under random adds and removes: contiguous, in type order, sized right, and every enemy
+ * still carries all of its own fields after the swaps. Each enemy's id goes in {@code score} and its type in
+ * {@code variant}; {@code x}/{@code hp} are derived from the id so a half-copied slot shows.
+ */
+public class EnemyStoreTest {
+    @Test
+    public void partitionsSurviveRandomAddsAndRemoves() {
+        EnemyStore store = new EnemyStore(4); // small, so growth happens mid-run too
+        Map<Integer, Integer> model = new HashMap<>(); // id -> type
+        SimRandom random = new SimRandom(20L);
+        int nextId = 0;
+        for (int op = 0; op < 8000; op++) {
+            if (store.size == 0 || random.nextInt(100) < (op < 4000 ? 60 : 40)) {
+                int type = random.nextInt(EnemyStore.TYPES), id = nextId++;
+                int slot = add(store, type, id);
+                assertEquals(type, store.typeOf(slot));
+                model.put(id, type);
+            } else {
+                int slot = random.nextInt(store.size);
+                assertEquals(model.remove(store.score[slot]).intValue(), store.typeOf(slot));
+                store.remove(slot);
+            }
+            check(store, model);
+        }
+    }
+
+    /** How GameWorld culls: walking down, removing as it goes, every enemy visited exactly once. */
+    @Test
+    public void removingWhileWalkingDownVisitsEveryEnemyOnce() {
+        EnemyStore store = new EnemyStore(8);
+        Map<Integer, Integer> model = new HashMap<>();
+        for (int id = 0; id < 300; id++) { int type = (id * 7) % EnemyStore.TYPES; add(store, type, id); model.put(id, type); }
+        int visited = 0;
+        for (int i = store.size - 1; i >= 0; i--) {
+            visited++;
+            if (store.score[i] % 3 != 0) { model.remove(store.score[i]); store.remove(i); }
+        }
+        assertEquals(300, visited);
+        assertEquals(100, store.size);
+        check(store, model);
+    }
+
+    @Test
+    public void copiesAndClearsKeepPartitions() {
+        EnemyStore store = new EnemyStore(8), copy = new EnemyStore(8);
+        Map<Integer, Integer> model = new HashMap<>();
+        for (int id = 0; id < 50; id++) { int type = EnemyStore.TYPES - 1 - id % EnemyStore.TYPES; add(store, type, id); model.put(id, type); }
+        copy.copyFrom(store);
+        check(copy, model);
+        store.clear();
+        model.clear();
+        check(store, model);
+        add(store, EnemyStore.SHOOTER, 7);
+        model.put(7, EnemyStore.SHOOTER);
+        check(store, model);
+    }
+
+    private static int add(EnemyStore store, int type, int id) {
+        return store.add(type, type, id, -id, 20f, 20f, id + 1, 1f, 0f, 1f, 0f, id);
+    }
+
+    private static void check(EnemyStore store, Map<Integer, Integer> model) {
+        assertEquals(model.size(), store.size);
+        assertEquals(0, store.start(EnemyStore.SINE));
+        for (int type = 0; type < EnemyStore.TYPES; type++) {
+            assertTrue("partition " + type + " reversed", store.start(type) <= store.end(type));
+            if (type > 0) assertEquals(store.end(type - 1), store.start(type));
+        }
+        assertEquals(store.size, store.end(EnemyStore.TYPES - 1));
+        Map<Integer, Integer> seen = new HashMap<>();
+        for (int type = 0; type < EnemyStore.TYPES; type++) {
+            for (int i = store.start(type); i < store.end(type); i++) {
+                int id = store.score[i];
+                assertEquals("slot " + i + " in the wrong partition", type, store.variant[i]);
+                assertEquals(type, store.typeOf(i));
+                assertEquals(id, store.x[i], 0f);
+                assertEquals(-id, store.y[i], 0f);
+                assertEquals(id + 1, store.hp[i]);
+                seen.put(id, type);
+            }
+        }
+        assertEquals(model, seen);
+    }
+}
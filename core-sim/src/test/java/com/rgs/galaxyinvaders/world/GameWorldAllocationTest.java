@@ -0,0 +1,69 @@
+package com.rgs.galaxyinvaders.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.rgs.galaxyinvaders.config.Constants;
+
+/**
+ * A warmed-up world must tick without allocating: hitboxes are tested from primitive fields, bullets and enemies
+ * live in preallocated stores, power-ups come from a pool and the broad-phase reuses its grids and hit lists.
+ * The same crowded wave is played three times in one world; the first two grow every store, pool and grid cell
+ * to the session's peak, so whatever the last run allocates is per-tick garbage.
+ */
+public class GameWorldAllocationTest {
+    private static final long SEED = 2024L;
+    private static final int TICKS = 2400; // 20 s at SIM_HZ
+    private static final float STEP = 1f / Constants.SIM_HZ;
+
+    @Test
+    public void busyWaveTicksAllocateNothing() {
+        GameWorld world = TestWorlds.world(SEED);
+        world.setInvulnerable(true); // keep the session going whatever hits
+        world.setInput(sweep());
+        for (int warmUp = 0; warmUp < 2; warmUp++) {
+            crowd(world);
+            play(world);
+        }
+
+        crowd(world); // grows the enemy store outside the measured ticks
+        world.getPowerUpPool().fill(32); // drops are random, so the second run may hold a few more at once
+        long calibration = -TestWorlds.allocatedBytes() + TestWorlds.allocatedBytes(); // the probe's own cost
+        long before = TestWorlds.allocatedBytes();
+        int peakEnemyBullets = play(world);
+        long allocated = TestWorlds.allocatedBytes() - before - calibration;
+
+        assertEquals("still the first wave", 1, world.getWave());
+        assertTrue("enemy bullets were flying", peakEnemyBullets > 0);
+        assertTrue("power-ups were collected or falling", world.getPowerUpPool().getObtained() > 0);
+        assertEquals("bytes allocated over " + TICKS + " ticks", 0L, allocated);
+    }
+
+    /** The ship sweeps side to side and fires throughout. */
+    private static InputSource sweep() {
+        return new InputSource() {
+            private int tick;
+            @Override public float moveAxis() { return (tick++ / 90) % 2 == 0 ? 1f : -1f; }
+            @Override public boolean fire() { return true; }
+        };
+    }
+
+    /** A crowded wave that outlasts the run, so no wave or boss is constructed while it plays. */
+    private static void crowd(GameWorld world) {
+        for (int i = 0; i < 160; i++) {
+            world.spawnEnemy(i % EnemyStore.TYPES, -1, 40f + (i * 37) % (Constants.W - 80), Constants.H + 20f + (i % 8) * 30f, 1, 0.8f, 0.75f);
+        }
+    }
+
+    /** Returns the most enemy bullets in flight. */
+    private static int play(GameWorld world) {
+        int peak = 0;
+        for (int t = 0; t < TICKS; t++) {
+            world.update(STEP);
+            peak = Math.max(peak, world.getEnemyBullets().size);
+        }
+        return peak;
+    }
+}
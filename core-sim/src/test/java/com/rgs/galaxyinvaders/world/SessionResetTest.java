@@ -0,0 +1,75 @@
+package com.rgs.galaxyinvaders.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.snapshot.RenderSnapshot;
+
+/**
+ * 1000 session changes on one world, as the game makes them: menu → game builds a new screen and loop around the
+ * app's world, Retry restarts the screen's own loop. Seeds cycle, so after the first lap every store, pool and
+ * grid has seen its peak and nothing may grow again; every session must also start clean and play out exactly
+ * like a world built fresh for its seed.
+ */
+public class SessionResetTest {
+    private static final int TRANSITIONS = 1000, SEEDS = 10, TICKS = 600;
+    private static final float STEP = 1f / Constants.SIM_HZ;
+
+    @Test
+    public void transitionsKeepResourcesFlat() {
+        GameWorld world = TestWorlds.world(1L);
+        final int[] events = new int[1];
+        WorldEvents sink = new WorldEvents() {
+            @Override public void onSound(SoundCue cue, float volume) { events[0]++; }
+            @Override public void onExplosion(float cx, float cy, float frameDuration, float scale) { events[0]++; }
+            @Override public void onGameOver(int score) { events[0]++; }
+        };
+        SimulationLoop loop = null;
+        String resources = null;
+        for (int i = 0; i < TRANSITIONS; i++) {
+            long seed = 500L + i % SEEDS;
+            if (loop != null) loop.stop();
+            world.reset(seed);
+            world.setInput(TestWorlds.scriptedInput(seed));
+            world.startRecording(STEP);
+            if (loop == null || i % 2 == 0) {
+                loop = new SimulationLoop(world, new FixedStepClock(Constants.SIM_HZ, Constants.MAX_STEPS_PER_FRAME), SimDriver.INLINE);
+            } else {
+                loop.restart();
+            }
+            loop.start();
+
+            events[0] = 0;
+            RenderSnapshot first = loop.acquire(sink);
+            assertEquals("session " + i + ": nothing carried over", "wave 1 score 0 over false events 0 powerups 0",
+                "wave " + first.wave + " score " + first.score + " over " + first.gameOver + " events " + events[0]
+                + " powerups " + world.getPowerUpPool().getLive());
+
+            for (int t = 0; t < TICKS; t++) loop.frame(STEP);
+
+            if (i == SEEDS) resources = resources(world);
+            else if (i > SEEDS) assertEquals("session " + i, resources, resources(world));
+            if (i % 97 == 0) assertEquals("session " + i, TestWorlds.fingerprint(fresh(seed, world.getRecorder().getTicks())), TestWorlds.fingerprint(world));
+        }
+        assertTrue("power-ups dropped along the way", world.getPowerUpPool().getObtained() > 0);
+    }
+
+    private static GameWorld fresh(long seed, int ticks) {
+        GameWorld world = TestWorlds.world(seed);
+        world.setInput(TestWorlds.scriptedInput(seed));
+        for (int t = 0; t < ticks; t++) world.update(STEP);
+        return world;
+    }
+
+    /** What would move if a session leaked or grew: pool misses and drops, and every backing array's capacity. */
+    private static String resources(GameWorld world) {
+        CountingPool<?> pool = world.getPowerUpPool();
+        return "powerup misses " + pool.getMisses() + " discarded " + pool.getDiscarded()
+            + " list " + ((Object[]) world.getPowerUps().items).length
+            + " enemies " + world.getEnemies().x.length
+            + " bullets " + world.getEnemyBullets().x.length + "/" + world.getPlayerBullets().x.length;
+    }
+}
@@ -0,0 +1,46 @@
+package com.rgs.galaxyinvaders.world;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.rgs.galaxyinvaders.config.Constants;
+
+/** Inline ticking around a stop: the frame that resumes after an idle spell must not catch up on it. */
+public class SimulationLoopTest {
+    private static final long SEED = 77;
+
+    @Test
+    public void resumingInlineSkipsTheIdleGap() {
+        GameWorld ticked = TestWorlds.world(SEED), reference = TestWorlds.world(SEED);
+        FixedStepClock clock = new FixedStepClock(Constants.SIM_HZ, Constants.MAX_STEPS_PER_FRAME);
+        SimulationLoop loop = new SimulationLoop(ticked, clock, SimDriver.INLINE);
+        float step = clock.getStep();
+
+        for (int i = 0; i < 60; i++) loop.frame(step);
+        loop.setRunning(false); // pause or game over: the next frames come seconds apart
+        loop.frame(4f);
+        loop.frame(4f);
+        loop.setRunning(true);
+        loop.frame(4f); // the resuming frame's delta spans the whole idle spell
+        for (int i = 0; i < 60; i++) loop.frame(step);
+
+        for (int i = 0; i < 120; i++) reference.update(step);
+        assertEquals(TestWorlds.fingerprint(reference), TestWorlds.fingerprint(ticked));
+    }
+
+    @Test
+    public void stoppingAndResumingWithinAFrameStillTicks() {
+        GameWorld ticked = TestWorlds.world(SEED), reference = TestWorlds.world(SEED);
+        FixedStepClock clock = new FixedStepClock(Constants.SIM_HZ, Constants.MAX_STEPS_PER_FRAME);
+        SimulationLoop loop = new SimulationLoop(ticked, clock, SimDriver.INLINE);
+        float step = clock.getStep();
+
+        for (int i = 0; i < 60; i++) {
+            loop.setRunning(true); // as GameScreen does every frame
+            loop.frame(step);
+        }
+        for (int i = 0; i < 60; i++) reference.update(step);
+        assertEquals(TestWorlds.fingerprint(reference), TestWorlds.fingerprint(ticked));
+    }
+}
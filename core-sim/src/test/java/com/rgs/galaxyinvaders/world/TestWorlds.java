@@ -0,0 +1,69 @@
+package com.rgs.galaxyinvaders.world;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import com.rgs.galaxyinvaders.pattern.BossPatterns;
+
+/** Shared setup for simulation tests: the shipped boss scripts, seeded worlds, scripted input, allocation counting. */
+public final class TestWorlds {
+    private static BossPatterns patterns;
+
+    private TestWorlds() {}
+
+    /** assets/boss-patterns.json (tests run with assets/ as working directory). */
+    public static synchronized BossPatterns patterns() {
+        if (patterns == null) {
+            try {
+                patterns = BossPatterns.parse(new String(Files.readAllBytes(Paths.get(BossPatterns.FILE)), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new IllegalStateException("Run tests from assets/ (see core-sim/build.gradle)", e);
+            }
+        }
+        return patterns;
+    }
+
+    /** A world with square ship proportions and no sprites, as headless runs use it. */
+    public static GameWorld world(long seed) {
+        GameWorld world = new GameWorld(new ShipMetrics(), seed);
+        world.setBossPatterns(patterns());
+        return world;
+    }
+
+    /** Pseudo-random play from {@code seed}: steering and fire change every 30 ticks on average. Allocation-free per tick. */
+    public static InputSource scriptedInput(final long seed) {
+        return new InputSource() {
+            private final SimRandom random = new SimRandom(seed);
+            private float axis;
+            private boolean fire;
+
+            @Override public void nextTick() {
+                if (random.nextInt(30) == 0) { axis = random.range(-1f, 1f); fire = random.nextBoolean(); }
+            }
+            @Override public float moveAxis() { return axis; }
+            @Override public boolean fire() { return fire; }
+        };
+    }
+
+    /** Everything a divergence would show in: counters, the ship, and every enemy and bullet position (bit-exact). */
+    public static String fingerprint(GameWorld world) {
+        long h = 17;
+        BulletStore eb = world.getEnemyBullets(), pb = world.getPlayerBullets();
+        EnemyStore es = world.getEnemies();
+        for (int i = 0; i < eb.size; i++) h = h * 31 + Float.floatToIntBits(eb.x[i]) * 7L + Float.floatToIntBits(eb.y[i]);
+        for (int i = 0; i < pb.size; i++) h = h * 31 + Float.floatToIntBits(pb.x[i]) * 7L + Float.floatToIntBits(pb.y[i]);
+        for (int i = 0; i < es.size; i++) h = h * 31 + Float.floatToIntBits(es.x[i]) * 7L + Float.floatToIntBits(es.y[i]);
+        return "score " + world.getScore() + " wave " + world.getWave() + " bosses " + world.getBossesDefeated()
+            + " lives " + world.getPlayer().getLives() + " x " + world.getPlayer().getX() + " over " + world.isGameOver()
+            + " enemies " + es.size + " bullets " + eb.size + "/" + pb.size + " powerups " + world.getPowerUps().size
+            + " boss " + (world.getBoss() != null ? world.getBoss().getHp() : -1) + " hash " + h;
+    }
+
+    /** Bytes allocated so far by the calling thread (HotSpot's per-thread TLAB accounting). */
+    public static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
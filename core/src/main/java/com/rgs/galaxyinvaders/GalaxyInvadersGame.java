@@ -3,30 +3,106 @@ package com.rgs.galaxyinvaders;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.Screen;
 import com.rgs.galaxyinvaders.assets.Assets;
+import com.rgs.galaxyinvaders.render.RenderContext;
+import com.rgs.galaxyinvaders.render.RenderPolicy;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.rgs.galaxyinvaders.screens.LoadingScreen;
 import com.rgs.galaxyinvaders.screens.MenuScreen;
+import com.rgs.galaxyinvaders.world.ChunkRunner;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.SimDriver;
 
 public class GalaxyInvadersGame extends Game {
+    /** Asset loading time per frame; small enough that the menu stays responsive while gameplay assets stream in. */
+    private static final int LOAD_BUDGET_MS = 10;
 
     public Assets assets;
+    /** Where the simulation's chunked loops run; platforms with threads pass a pool (see ChunkRunner). */
+    public final ChunkRunner chunkRunner;
+    /** Where gameplay ticks: inline in render(), or on its own thread where the platform has them (see SimDriver). */
+    public final SimDriver simDriver;
+    /** Static screens switch to render-on-demand through this; every screen change starts out continuous. */
+    public final RenderPolicy renderPolicy = new RenderPolicy();
+    /** Batch, shapes, skin and starfield every screen draws with; screens borrow them, the game disposes them. */
+    public RenderContext renderContext;
+    private final Array<Screen> retired = new Array<>(); // replaced screens, disposed at the start of the next frame
+    private GameWorld world; // every session plays in this one, reset in place (see world(long))
     private Preferences prefs;
     private int highScore = 0;
     private boolean muted = false;
+    private boolean bulletHell = false;
+    private long launchMillis;
+    private boolean interactiveLogged = false;
+
+    public GalaxyInvadersGame() { this(ChunkRunner.SERIAL, SimDriver.INLINE); }
+    public GalaxyInvadersGame(ChunkRunner chunkRunner, SimDriver simDriver) {
+        this.chunkRunner = chunkRunner;
+        this.simDriver = simDriver;
+    }
 
     @Override
     public void create() {
+        launchMillis = TimeUtils.millis();
         assets = new Assets();
         assets.loadAll();
-        assets.finishLoading();
 
         prefs = Gdx.app.getPreferences("GalaxyInvadersPrefs");
         highScore = prefs.getInteger("highscore", 0);
         muted = prefs.getBoolean("muted", false);
+        bulletHell = prefs.getBoolean("bulletHell", false);
 
         assets.setMuted(muted);           // apply to music immediately
         assets.applyCurrentVolumes();     // ensure volumes reflect state
+        renderContext = new RenderContext(assets);
+
+        setScreen(new LoadingScreen(this, false, new Runnable() {
+            @Override public void run() { setScreen(new MenuScreen(GalaxyInvadersGame.this)); }
+        }));
+    }
+
+    @Override
+    public void render() {
+        renderPolicy.onFrame();
+        disposeRetired();
+        assets.update(LOAD_BUDGET_MS);
+        super.render();
+    }
+
+    @Override
+    public void setScreen(Screen screen) {
+        renderPolicy.setIdle(false);
+        Screen old = getScreen();
+        super.setScreen(screen);
+        // Usually called from inside the old screen's render(), so it is disposed once that has returned
+        if (old != null && old != screen && !retired.contains(old, true)) retired.add(old);
+    }
 
-        setScreen(new MenuScreen(this));
+    private void disposeRetired() {
+        for (int i = 0; i < retired.size; i++) {
+            if (retired.get(i) != getScreen()) retired.get(i).dispose();
+        }
+        retired.clear();
+    }
+
+    /**
+     * The world for a new session from {@code seed}: built the first time, reset in place after that, so its stores,
+     * pools and grids are grown once per launch. The previous session's loop must be stopped first.
+     */
+    public GameWorld world(long seed) {
+        if (world == null) world = new GameWorld(assets.shipMetrics(), seed);
+        else world.reset(seed);
+        return world;
+    }
+
+    /** Called by the first screen the player can use; logs time-to-first-interactive-frame once per launch. */
+    public void markInteractive() {
+        if (interactiveLogged) return;
+        interactiveLogged = true;
+        Gdx.app.log("Startup", "First interactive frame after " + TimeUtils.timeSinceMillis(launchMillis) + " ms"
+            + (assets.isGameplayReady() ? "" : " (gameplay assets still streaming)"));
     }
 
     public int getHighScore() { return highScore; }
@@ -50,9 +126,20 @@ public class GalaxyInvadersGame extends Game {
         }
     }
 
+    // --- Bullet hell tier (see GameWorld.setBulletHell); applies from the next session ---
+    public boolean isBulletHell() { return bulletHell; }
+    public void setBulletHell(boolean on) {
+        bulletHell = on;
+        prefs.putBoolean("bulletHell", bulletHell);
+        prefs.flush();
+    }
+
     @Override
     public void dispose() {
         super.dispose();
+        if (getScreen() != null) getScreen().dispose();
+        disposeRetired();
+        if (renderContext != null) renderContext.dispose();
         if (assets != null) assets.dispose();
     }
 }
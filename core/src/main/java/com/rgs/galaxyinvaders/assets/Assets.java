@@ -1,76 +1,224 @@
 package com.rgs.galaxyinvaders.assets;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.rgs.galaxyinvaders.audio.SfxScheduler;
+import com.rgs.galaxyinvaders.fx.ExplosionFrames;
+import com.rgs.galaxyinvaders.pattern.BossPatterns;
+import com.rgs.galaxyinvaders.world.ShipMetrics;
+import com.rgs.galaxyinvaders.world.SoundCue;
 
 public class Assets implements Disposable {
 
+    /** Immutable once resolved; every live {@link com.rgs.galaxyinvaders.fx.Explosion} just points at one. */
     public static class ExplosionSeq {
         public final Array<TextureRegion> frames = new Array<>();
         public float frameDuration = 0.05f;
     }
 
+    /** Packed by {@code ./gradlew packAtlas}; without it the game falls back to the loose PNGs and baked shapes. */
+    public static final String ATLAS = "atlas/game.atlas";
+    public static final String ATLAS_FONT = "atlas/font.fnt";
+
     public final AssetManager manager = new AssetManager();
+    public TextureAtlas atlas; // null when running from loose PNGs
 
     // Textures
     public TextureRegion playerShip, bossShip, white1x1;
+    public TextureRegion dot, diamond, particle; // white shapes for bullets / shield / powerups / sparks, tinted per instance
+    public BitmapFont font;
+    private final Array<Texture> baked = new Array<>();
     public final Array<TextureRegion> enemyShips = new Array<>();
     public final Array<ExplosionSeq> explosions = new Array<>();
 
+    // Simulation content
+    public BossPatterns bossPatterns; // compiled with the gameplay stage
+
     // Audio
     public Music menuMusic, gameMusic;
     public Sound pickup, hit;
+    public final SfxScheduler sfxScheduler = new SfxScheduler(this);
 
     // Global audio state
     private boolean muted = false;
     private float musicVolume = 1f; // base music volume (when unmuted)
     private float sfxVolume   = 1f; // base SFX volume   (when unmuted)
 
-    public void loadAll() {
-        // Sprites
-        manager.load("player1.png", Texture.class);
-        manager.load("enemy1.png", Texture.class);
-        manager.load("boss1.png",  Texture.class);
+    // Loading runs in two stages: what the menu needs first, then gameplay assets streamed behind it
+    private static final int STAGE_MENU = 0, STAGE_GAMEPLAY = 1, STAGE_DONE = 2;
+    private int stage = STAGE_MENU;
+    private final boolean packed = Gdx.files.internal(ATLAS).exists();
 
-        // Audio
+    /** Queues the menu stage; drive it with {@link #update(int)} (or block with {@link #finishLoading()}). */
+    public void loadAll() {
+        // Sprites: one atlas page when packed (skin + font live there too)
+        if (packed) manager.load(ATLAS, TextureAtlas.class);
         manager.load("music1.mp3", Music.class);
+    }
+
+    private void queueGameplay() {
+        if (!packed) {
+            manager.load("player1.png", Texture.class);
+            manager.load("enemy1.png", Texture.class);
+            manager.load("boss1.png",  Texture.class);
+        }
         manager.load("music2.mp3", Music.class);
         manager.load("pickup.mp3", Sound.class);
         manager.load("hit.mp3",    Sound.class);
     }
 
-    public void finishLoading() {
-        manager.finishLoading();
+    /**
+     * Loads for at most about {@code budgetMillis} (at least one step) and resolves whatever finished.
+     * Returns true once everything, gameplay included, is ready.
+     */
+    public boolean update(int budgetMillis) {
+        if (stage == STAGE_DONE) return true;
+        if (!manager.update(budgetMillis)) return false;
+        if (stage == STAGE_MENU) {
+            resolveMenu();
+            stage = STAGE_GAMEPLAY;
+            queueGameplay();
+            return false;
+        }
+        resolveGameplay();
+        stage = STAGE_DONE;
+        return true;
+    }
 
-        if (manager.isLoaded("player1.png")) playerShip = tr("player1.png");
-        if (manager.isLoaded("enemy1.png"))  enemyShips.add(tr("enemy1.png"));
-        if (manager.isLoaded("boss1.png"))   bossShip = tr("boss1.png");
+    /** Blocks until both stages are loaded. */
+    public void finishLoading() {
+        while (!update(Integer.MAX_VALUE)) { /* one stage per pass */ }
+    }
 
-        // 1x1 fallback
-        Pixmap pm = new Pixmap(1,1, Pixmap.Format.RGBA8888);
-        pm.setColor(Color.WHITE); pm.fill();
-        white1x1 = new TextureRegion(new Texture(pm));
-        pm.dispose();
+    public boolean isMenuReady() { return stage > STAGE_MENU; }
+    public boolean isGameplayReady() { return stage == STAGE_DONE; }
+    /** 0..1 progress of the stage currently loading. */
+    public float getProgress() { return stage == STAGE_DONE ? 1f : manager.getProgress(); }
 
-        // Music
+    private void resolveMenu() {
+        if (manager.isLoaded(ATLAS)) resolveFromAtlas(manager.get(ATLAS, TextureAtlas.class));
+        else resolveLoose();
         if (manager.isLoaded("music1.mp3")) { menuMusic = manager.get("music1.mp3", Music.class); menuMusic.setLooping(true); }
+        applyCurrentVolumes();
+    }
+
+    private void resolveGameplay() {
+        if (!packed) {
+            if (manager.isLoaded("player1.png")) playerShip = tr("player1.png");
+            if (manager.isLoaded("enemy1.png"))  enemyShips.add(tr("enemy1.png"));
+            if (manager.isLoaded("boss1.png"))   bossShip = tr("boss1.png");
+        }
         if (manager.isLoaded("music2.mp3")) { gameMusic = manager.get("music2.mp3", Music.class); gameMusic.setLooping(true); }
-        // SFX
         if (manager.isLoaded("pickup.mp3")) pickup = manager.get("pickup.mp3", Sound.class);
         if (manager.isLoaded("hit.mp3"))    hit    = manager.get("hit.mp3", Sound.class);
-
+        bossPatterns = BossPatterns.parse(Gdx.files.internal(BossPatterns.FILE).readString());
         applyCurrentVolumes();
     }
 
+    private void resolveFromAtlas(TextureAtlas a) {
+        atlas = a;
+        playerShip = a.findRegion("player1");
+        bossShip = a.findRegion("boss1");
+        for (int i = 1; a.findRegion("enemy" + i) != null; i++) enemyShips.add(a.findRegion("enemy" + i));
+        // Sample the middle of the padded white block so linear filtering never reaches a neighbour
+        TextureRegion white = a.findRegion("white");
+        white1x1 = new TextureRegion(white, 1, 1, white.getRegionWidth() - 2, white.getRegionHeight() - 2);
+        dot = a.findRegion("dot");
+        diamond = a.findRegion("diamond");
+        particle = a.findRegion("particle");
+        font = new BitmapFont(Gdx.files.internal(ATLAS_FONT), a.findRegion("font"));
+        for (int v = 0; ; v++) {
+            Array<TextureAtlas.AtlasRegion> frames = a.findRegions("explosion" + v);
+            if (frames.size == 0) break;
+            ExplosionSeq seq = new ExplosionSeq();
+            seq.frames.addAll(frames);
+            explosions.add(seq);
+        }
+    }
+
+    /** No atlas: default font and baked shapes now; the ship PNGs come with the gameplay stage. */
+    private void resolveLoose() {
+        font = new BitmapFont();
+
+        // 1x1 fallback
+        Pixmap pm = new Pixmap(1,1, Pixmap.Format.RGBA8888);
+        pm.setColor(Color.WHITE); pm.fill();
+        white1x1 = bake(pm);
+
+        // Playfield shapes, drawn through the SpriteBatch instead of ShapeRenderer fans
+        pm = new Pixmap(SHAPE_SIZE, SHAPE_SIZE, Pixmap.Format.RGBA8888);
+        pm.setColor(Color.WHITE);
+        pm.fillCircle(SHAPE_SIZE / 2, SHAPE_SIZE / 2, SHAPE_SIZE / 2 - 1);
+        dot = bake(pm);
+
+        pm = new Pixmap(SHAPE_SIZE, SHAPE_SIZE, Pixmap.Format.RGBA8888);
+        pm.setColor(Color.WHITE);
+        int c = SHAPE_SIZE / 2;
+        pm.fillTriangle(c, 0, 0, c, SHAPE_SIZE, c);
+        pm.fillTriangle(c, SHAPE_SIZE, 0, c, SHAPE_SIZE, c);
+        diamond = bake(pm);
+
+        pm = new Pixmap(SHAPE_SIZE / 2, SHAPE_SIZE / 2, Pixmap.Format.RGBA8888);
+        pm.setColor(Color.WHITE);
+        pm.fillCircle(SHAPE_SIZE / 4, SHAPE_SIZE / 4, SHAPE_SIZE / 4 - 1);
+        particle = bake(pm);
+
+        bakeExplosions();
+    }
+
+    /** Same frames the atlas packer bakes, as one sheet: a row of frames per variant. */
+    private void bakeExplosions() {
+        int size = ExplosionFrames.SIZE;
+        Pixmap pm = new Pixmap(size * ExplosionFrames.FRAMES, size * ExplosionFrames.VARIANTS, Pixmap.Format.RGBA8888);
+        pm.setBlending(Pixmap.Blending.None);
+        int[] rgba = new int[size * size];
+        for (int v = 0; v < ExplosionFrames.VARIANTS; v++) {
+            for (int f = 0; f < ExplosionFrames.FRAMES; f++) {
+                ExplosionFrames.render(v, f, rgba);
+                for (int i = 0; i < rgba.length; i++) pm.drawPixel(f * size + i % size, v * size + i / size, rgba[i]);
+            }
+        }
+        TextureRegion sheet = bake(pm);
+        for (int v = 0; v < ExplosionFrames.VARIANTS; v++) {
+            ExplosionSeq seq = new ExplosionSeq();
+            for (int f = 0; f < ExplosionFrames.FRAMES; f++) seq.frames.add(new TextureRegion(sheet, f * size, v * size, size, size));
+            explosions.add(seq);
+        }
+    }
+
     private TextureRegion tr(String path) { return new TextureRegion(manager.get(path, Texture.class)); }
 
+    private static final int SHAPE_SIZE = 64;
+
+    /** Uploads a generated pixmap (and frees it); the texture is disposed with the assets. */
+    private TextureRegion bake(Pixmap pm) {
+        Texture t = new Texture(pm);
+        t.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        pm.dispose();
+        baked.add(t);
+        return new TextureRegion(t);
+    }
+
+    /** Ship proportions for the simulation, taken from the loaded sprites (falls back like the renderer does). */
+    public ShipMetrics shipMetrics() {
+        ShipMetrics m = new ShipMetrics();
+        m.playerAspect = aspect(playerShip != null ? playerShip : white1x1);
+        m.bossAspect   = aspect(bossShip != null ? bossShip : white1x1);
+        for (TextureRegion r : enemyShips) m.enemyAspects.add(aspect(r));
+        return m;
+    }
+    private static float aspect(TextureRegion r) { return r == null ? 1f : (float) r.getRegionHeight() / r.getRegionWidth(); }
+
     // --- Music control ---
     public void playMenuMusic() {
         if (gameMusic != null) gameMusic.stop();
@@ -100,10 +248,22 @@ public class Assets implements Disposable {
         if (gameMusic != null) gameMusic.setVolume(mv);
     }
 
+    /** Queues a simulation sound cue; {@link #sfxScheduler} merges and limits them when it plays the frame. */
+    public void play(SoundCue cue, float vol) { sfxScheduler.request(cue, vol); }
+
+    /** The loaded sound for a cue, or null while it is missing / still loading. */
+    public Sound sound(SoundCue cue) { return cue == SoundCue.HIT ? hit : pickup; }
+
     /** Helper for SFX callers: returns effective volume respecting mute and SFX volume. */
     public float sfx(float requested) { return muted ? 0f : clamp01(requested) * sfxVolume; }
 
-    @Override public void dispose() { stopAllMusic(); manager.dispose(); }
+    @Override public void dispose() {
+        stopAllMusic();
+        manager.dispose();
+        if (font != null) font.dispose();
+        for (Texture t : baked) t.dispose();
+        baked.clear();
+    }
 
     private static float clamp01(float v){ return v < 0f ? 0f : (v > 1f ? 1f : v); }
 }
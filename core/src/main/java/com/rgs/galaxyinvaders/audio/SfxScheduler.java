@@ -0,0 +1,119 @@
+package com.rgs.galaxyinvaders.audio;
+
+import com.badlogic.gdx.audio.Sound;
+import com.rgs.galaxyinvaders.assets.Assets;
+import com.rgs.galaxyinvaders.world.SoundCue;
+
+/**
+ * Sits between sound requests and {@code Sound.play}. Requests made during a frame are merged per cue
+ * into one play at their combined volume; each cue then has a minimum retrigger interval and a voice cap.
+ * At the cap, a new play steals the weakest voice (volume times time left) only if it is louder, else it is dropped.
+ * Call {@link #update} once per frame; nothing here allocates.
+ */
+public class SfxScheduler {
+    private static final int MAX_VOICES = 8;
+    private static final SoundCue[] CUES = SoundCue.values(); // values() clones on every call
+
+    /** Per-cue state and tuning. Voice length is an estimate: libGDX can't tell when a sound ends. */
+    private static final class Channel {
+        final int maxVoices;
+        final float minInterval, voiceLength;
+        final long[] ids = new long[MAX_VOICES];
+        final float[] ends = new float[MAX_VOICES], volumes = new float[MAX_VOICES];
+        int voices = 0;
+        float pending = 0f; // combined volume requested this frame, 0 = nothing
+        float lastPlay = -1f;
+
+        Channel(int maxVoices, float minInterval, float voiceLength) {
+            this.maxVoices = Math.min(MAX_VOICES, maxVoices);
+            this.minInterval = minInterval;
+            this.voiceLength = voiceLength;
+        }
+    }
+
+    private final Assets assets;
+    private final Channel[] channels = new Channel[CUES.length];
+    private float clock = 0f;
+    private long requested, merged, played, dropped;
+
+    public SfxScheduler(Assets assets) {
+        this.assets = assets;
+        for (SoundCue cue : CUES) channels[cue.ordinal()] = channelFor(cue);
+    }
+
+    private static Channel channelFor(SoundCue cue) {
+        switch (cue) {
+            case HIT:    return new Channel(4, 0.045f, 0.35f); // bullet impacts: the boss spiral can ask for dozens a second
+            case PICKUP: return new Channel(2, 0.08f, 0.6f);
+            default:     return new Channel(2, 0.05f, 0.5f);
+        }
+    }
+
+    /** Queues a cue for this frame. Same-frame requests add up like independent sources: 1 - (1-a)(1-b). */
+    public void request(SoundCue cue, float volume) {
+        requested++;
+        Channel c = channels[cue.ordinal()];
+        if (c.pending > 0f) merged++;
+        c.pending = 1f - (1f - c.pending) * (1f - Math.min(1f, volume));
+    }
+
+    public void update(float delta) {
+        clock += delta;
+        for (int i = 0; i < channels.length; i++) {
+            Channel c = channels[i];
+            expire(c);
+            if (c.pending <= 0f) continue;
+            float volume = c.pending;
+            c.pending = 0f;
+            if (c.lastPlay >= 0f && clock - c.lastPlay < c.minInterval) { dropped++; continue; }
+            play(CUES[i], c, volume);
+        }
+    }
+
+    private void expire(Channel c) {
+        for (int v = c.voices - 1; v >= 0; v--) {
+            if (c.ends[v] > clock) continue;
+            int last = --c.voices;
+            c.ids[v] = c.ids[last]; c.ends[v] = c.ends[last]; c.volumes[v] = c.volumes[last];
+        }
+    }
+
+    private void play(SoundCue cue, Channel c, float volume) {
+        Sound sound = assets.sound(cue);
+        if (sound == null) return;
+        int slot = c.voices;
+        if (slot == c.maxVoices) {
+            slot = weakest(c);
+            if (weight(c, slot) >= volume) { dropped++; return; }
+            sound.stop(c.ids[slot]);
+        } else {
+            c.voices++;
+        }
+        long id = sound.play(assets.sfx(volume));
+        if (id == -1) { // backend out of voices
+            c.voices--;
+            if (slot != c.voices) { c.ids[slot] = c.ids[c.voices]; c.ends[slot] = c.ends[c.voices]; c.volumes[slot] = c.volumes[c.voices]; }
+            dropped++;
+            return;
+        }
+        c.ids[slot] = id;
+        c.ends[slot] = clock + c.voiceLength;
+        c.volumes[slot] = volume;
+        c.lastPlay = clock;
+        played++;
+    }
+
+    private int weakest(Channel c) {
+        int best = 0;
+        for (int v = 1; v < c.voices; v++) if (weight(c, v) < weight(c, best)) best = v;
+        return best;
+    }
+
+    /** How much a voice still matters: its volume scaled by the share of its length left. */
+    private float weight(Channel c, int v) { return c.volumes[v] * (c.ends[v] - clock) / c.voiceLength; }
+
+    public long getRequested() { return requested; }
+    public long getMerged() { return merged; }
+    public long getPlayed() { return played; }
+    public long getDropped() { return dropped; }
+}
@@ -0,0 +1,126 @@
+package com.rgs.galaxyinvaders.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.rgs.galaxyinvaders.audio.SfxScheduler;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.fx.ExplosionSystem;
+import com.rgs.galaxyinvaders.profile.PhaseProfiler;
+import com.rgs.galaxyinvaders.render.QualityGovernor;
+import com.rgs.galaxyinvaders.render.RenderContext;
+import com.rgs.galaxyinvaders.render.RenderQueue;
+
+/**
+ * Debug overlay for frame and simulation phase timings (F3 toggles, F4 dumps CSV to profiles/).
+ * The text is rebuilt a couple of times a second into a reused builder, so drawing it allocates nothing.
+ */
+public class ProfilerOverlay {
+    private static final float REFRESH = 0.5f;
+
+    private final PhaseProfiler[] profilers;
+    private final StringBuilder text = new StringBuilder(1024);
+    private GLProfiler gl;
+    private SfxScheduler sfx;
+    private RenderQueue queue;
+    private ExplosionSystem explosions;
+    private QualityGovernor quality;
+    private int drawCalls, vertices, textureBindings, shaderSwitches; // last completed frame
+    private boolean visible = false;
+    private float refreshIn = 0f;
+
+    public ProfilerOverlay(PhaseProfiler... profilers) { this.profilers = profilers; }
+
+    /** Also report GL draw calls / vertices per frame (counted while the overlay is visible). */
+    public void setGlProfiler(GLProfiler gl) { this.gl = gl; }
+
+    public void setSfxScheduler(SfxScheduler sfx) { this.sfx = sfx; }
+    public void setRenderQueue(RenderQueue queue) { this.queue = queue; }
+    public void setExplosions(ExplosionSystem explosions) { this.explosions = explosions; }
+    public void setQuality(QualityGovernor quality) { this.quality = quality; }
+
+    public void toggle() {
+        visible = !visible;
+        for (PhaseProfiler p : profilers) { p.clear(); p.setEnabled(visible); }
+        if (gl != null) { if (visible) gl.enable(); else gl.disable(); gl.reset(); }
+        refreshIn = 0f;
+    }
+
+    /** Call once after the frame's last draw: snapshots and resets the GL counters. */
+    public void endFrame() {
+        if (gl == null || !gl.isEnabled()) return;
+        drawCalls = gl.getDrawCalls();
+        vertices = (int) gl.getVertexCount().total;
+        textureBindings = gl.getTextureBindings();
+        shaderSwitches = gl.getShaderSwitches();
+        gl.reset();
+    }
+
+    public void render(SpriteBatch sb, BitmapFont font, float delta) {
+        if (!visible) return;
+        refreshIn -= delta;
+        if (refreshIn <= 0f) { refreshIn = REFRESH; rebuild(); }
+        font.setColor(Color.YELLOW);
+        font.draw(sb, text, Constants.W - 250, Constants.H - 60);
+        font.setColor(Color.WHITE);
+    }
+
+    private void rebuild() {
+        text.setLength(0);
+        if (gl != null) {
+            text.append("draw calls ").append(drawCalls).append("  verts ").append(vertices).append('\n')
+                .append("tex binds ").append(textureBindings).append("  shaders ").append(shaderSwitches).append('\n')
+                .append("gl live textures ").append(RenderContext.getTextureCount()).append("  shaders ").append(RenderContext.getShaderCount()).append('\n');
+        }
+        if (queue != null) text.append("render passes ").append(queue.getPasses()).append("  saved ").append(queue.getSavedPasses()).append('\n');
+        if (sfx != null) {
+            text.append("sfx req ").append(sfx.getRequested()).append("  merged ").append(sfx.getMerged())
+                .append("  played ").append(sfx.getPlayed()).append("  dropped ").append(sfx.getDropped()).append('\n');
+        }
+        if (explosions != null) {
+            text.append(explosions.isStressing() ? "fx STRESS live " : "fx live ").append(explosions.getLive())
+                .append("  recycled ").append(explosions.getRecycled()).append("  pool misses ").append(explosions.getPool().getMisses()).append('\n');
+        }
+        if (quality != null) {
+            text.append("quality ").append(quality.getTier().name()).append("  avg ");
+            appendMicros((long) (quality.getAverage() * 1e9f));
+            text.append(" / ");
+            appendMicros((long) (quality.getBudget() * 1e9f));
+            text.append(" us  changes ").append(quality.getTransitions()).append('\n');
+        }
+        text.append("phase  p50 / p95 / p99 us\n");
+        for (PhaseProfiler p : profilers) {
+            for (int i = 0; i < p.getPhaseCount(); i++) {
+                text.append(p.getName(i)).append("  ");
+                appendMicros(p.percentile(i, 0.50f)); text.append(" / ");
+                appendMicros(p.percentile(i, 0.95f)); text.append(" / ");
+                appendMicros(p.percentile(i, 0.99f)); text.append('\n');
+            }
+        }
+    }
+
+    private void appendMicros(long nanos) {
+        long tenths = nanos / 100;
+        text.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    /** Writes every profiler's summary and raw samples to profiles/profile-&lt;millis&gt;.csv. */
+    public void dump() {
+        java.lang.StringBuilder out = new java.lang.StringBuilder();
+        for (PhaseProfiler p : profilers) { p.appendCsv(out); out.append('\n'); }
+        String file = "profiles/profile-" + TimeUtils.millis() + ".csv";
+        try {
+            Gdx.files.local(file).writeString(out.toString(), false);
+            Gdx.app.log("Profiler", "Wrote " + file);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("Profiler", "Could not write " + file, e);
+        }
+    }
+
+    public boolean isVisible() { return visible; }
+}
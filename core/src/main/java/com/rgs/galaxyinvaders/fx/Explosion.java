@@ -3,22 +3,21 @@ package com.rgs.galaxyinvaders.fx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 import com.rgs.galaxyinvaders.assets.Assets;
 
-public class Explosion {
-    private final Array<TextureRegion> frames;
+public class Explosion implements Pool.Poolable {
+    private Array<TextureRegion> frames; // shared with the ExplosionSeq, never modified
     private float x,y,t=0, frameDuration, scale;
 
-    public Explosion(float cx, float cy, Assets.ExplosionSeq seq, float frameDuration, float scale) {
-        this.x=cx; this.y=cy; this.frames=new Array<>(seq.frames);
+    /** Pooled: obtain from the world's explosion pool and configure with {@link #init}. */
+    public Explosion init(float cx, float cy, Assets.ExplosionSeq seq, float frameDuration, float scale) {
+        this.x=cx; this.y=cy; this.t=0; this.frames=seq.frames;
         this.frameDuration = frameDuration; this.scale = scale;
+        return this;
     }
 
-    public static Explosion big(float cx, float cy, com.rgs.galaxyinvaders.assets.Assets assets) {
-        if (assets.explosions.size == 0) return null;
-        Assets.ExplosionSeq seq = assets.explosions.get(0);
-        return new Explosion(cx, cy, seq, 0.04f, 1.0f);
-    }
+    @Override public void reset() { frames = null; t = 0; }
 
     public boolean tick(float dt) { t += dt; return (int)(t / frameDuration) >= frames.size; }
 
@@ -0,0 +1,79 @@
+package com.rgs.galaxyinvaders.fx;
+
+/**
+ * Procedural explosion animation: an expanding fireball with a shock ring and flying sparks, cooling
+ * from white through orange to smoke. Pure pixel math (RGBA8888 ints) so the atlas packer and the
+ * runtime fallback bake exactly the same frames. Variant 0 is the big one used for boss kills.
+ */
+public final class ExplosionFrames {
+    public static final int SIZE = 64, FRAMES = 10, VARIANTS = 3;
+    private static final int SPARKS = 12;
+
+    private ExplosionFrames() {}
+
+    /** Fills {@code out} (SIZE*SIZE, row 0 at the top) with frame {@code frame} of {@code variant}. */
+    public static void render(int variant, int frame, int[] out) {
+        float t = (frame + 0.5f) / FRAMES;
+        float half = SIZE / 2f;
+        float ball = half * (0.35f + 0.55f * (1f - (1f - t) * (1f - t)));
+        float ring = half * (0.3f + 0.65f * t), ringWidth = 2.5f + 3f * t;
+        boolean plasma = variant == 2;
+
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                float dx = x + 0.5f - half, dy = y + 0.5f - half;
+                float d = (float) Math.sqrt(dx * dx + dy * dy);
+                float n = noise(x, y, variant);
+                float core = clamp01(1f - d / (ball * (0.8f + 0.4f * n)));
+                float heat = core * (1.25f - t) + clamp01(1f - Math.abs(d - ring) / ringWidth) * 0.6f * (1f - t);
+                float alpha = clamp01(heat * 1.6f) * (1f - t * t * t);
+                out[y * SIZE + x] = heat <= 0f ? 0 : ramp(heat, alpha, plasma);
+            }
+        }
+
+        // Sparks: fixed directions per variant, flying outward and fading
+        long seed = 0x9E3779B97F4A7C15L * (variant + 1);
+        for (int s = 0; s < SPARKS; s++) {
+            seed = next(seed); float ang = (seed >>> 40) / (float) (1 << 24) * 6.2831855f;
+            seed = next(seed); float speed = 0.6f + 0.4f * ((seed >>> 40) / (float) (1 << 24));
+            float r = half * 0.95f * speed * t;
+            int sx = Math.round(half + (float) Math.cos(ang) * r), sy = Math.round(half + (float) Math.sin(ang) * r);
+            float a = 1f - t;
+            for (int oy = -1; oy <= 1; oy++) for (int ox = -1; ox <= 1; ox++) {
+                int px = sx + ox, py = sy + oy;
+                if (px < 0 || py < 0 || px >= SIZE || py >= SIZE) continue;
+                float w = (ox == 0 && oy == 0) ? a : a * 0.4f;
+                if (w > ((out[py * SIZE + px] & 0xff) / 255f)) out[py * SIZE + px] = ramp(0.9f, w, plasma);
+            }
+        }
+    }
+
+    /** Heat 0..~1.3 to colour: smoke, red, orange, yellow, white (or blue-white for plasma). */
+    private static int ramp(float heat, float alpha, boolean plasma) {
+        float r, g, b;
+        if (heat > 0.85f)      { r = 1f; g = 1f; b = 0.8f + 0.2f * clamp01((heat - 0.85f) * 4f); }
+        else if (heat > 0.55f) { float k = (heat - 0.55f) / 0.3f; r = 1f; g = 0.55f + 0.45f * k; b = 0.1f + 0.7f * k; }
+        else if (heat > 0.25f) { float k = (heat - 0.25f) / 0.3f; r = 0.8f + 0.2f * k; g = 0.15f + 0.4f * k; b = 0.05f + 0.05f * k; }
+        else                   { float k = heat / 0.25f; r = 0.25f + 0.55f * k; g = 0.22f - 0.07f * k; b = 0.22f - 0.17f * k; }
+        if (plasma) { float tmp = r; r = b; b = tmp; g = Math.max(g, 0.5f * b); }
+        return ((int) (r * 255) << 24) | ((int) (g * 255) << 16) | ((int) (b * 255) << 8) | (int) (alpha * 255);
+    }
+
+    /** Cheap hashed value noise in 0..1, smooth over 4px cells. */
+    private static float noise(int x, int y, int variant) {
+        float fx = x / 4f, fy = y / 4f;
+        int ix = (int) fx, iy = (int) fy;
+        float tx = fx - ix, ty = fy - iy;
+        float a = hash(ix, iy, variant), b = hash(ix + 1, iy, variant), c = hash(ix, iy + 1, variant), d = hash(ix + 1, iy + 1, variant);
+        return (a + (b - a) * tx) * (1f - ty) + (c + (d - c) * tx) * ty;
+    }
+
+    private static float hash(int x, int y, int variant) {
+        int h = x * 374761393 + y * 668265263 + variant * 1442695041;
+        h = (h ^ (h >>> 13)) * 1274126177;
+        return ((h ^ (h >>> 16)) & 0xffff) / 65535f;
+    }
+
+    private static long next(long s) { return s * 6364136223846793005L + 1442695040888963407L; }
+    private static float clamp01(float v) { return v < 0f ? 0f : (v > 1f ? 1f : v); }
+}
@@ -0,0 +1,86 @@
+package com.rgs.galaxyinvaders.fx;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.rgs.galaxyinvaders.assets.Assets;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.world.CountingPool;
+
+/**
+ * Live explosions: flyweights over the shared {@link Assets.ExplosionSeq} frames, drawn from a pool and
+ * hard-capped at {@link #MAX_LIVE} (lower while the quality governor asks; see {@link #setCap}).
+ * At the cap the oldest effect is recycled in place, so a burst of
+ * kills never allocates and never grows the batch past a known size.
+ * The stress mode spawns effects continuously to check that (pool misses should stop moving).
+ */
+public class ExplosionSystem {
+    public static final int MAX_LIVE = 96;
+    public static final float STRESS_RATE = 400f; // spawns per second
+
+    private final Array<Assets.ExplosionSeq> seqs;
+    private final CountingPool<Explosion> pool = new CountingPool<Explosion>(MAX_LIVE, MAX_LIVE) { @Override protected Explosion create() { return new Explosion(); } };
+    private final Array<Explosion> live = new Array<>(true, MAX_LIVE); // oldest first
+    private int cap = MAX_LIVE;
+    private long spawned, recycled;
+    private float stressRate, stressDue;
+
+    public ExplosionSystem(Array<Assets.ExplosionSeq> seqs) { this.seqs = seqs; }
+
+    public void update(float dt) {
+        for (int i = live.size - 1; i >= 0; i--) {
+            if (live.get(i).tick(dt)) pool.free(live.removeIndex(i));
+        }
+        if (stressRate > 0f) {
+            stressDue += stressRate * dt;
+            for (; stressDue >= 1f; stressDue -= 1f) {
+                spawn(MathUtils.random(Constants.W), MathUtils.random(Constants.H), 0f, MathUtils.random(0.4f, 1.2f));
+            }
+        }
+    }
+
+    /** A random small variant; {@code frameDur <= 0} keeps the sequence's own timing. */
+    public void spawn(float cx, float cy, float frameDur, float scale) {
+        if (seqs.size == 0) return;
+        Assets.ExplosionSeq seq = seqs.size > 1 ? seqs.get(MathUtils.random(1, seqs.size - 1)) : seqs.first();
+        spawn(cx, cy, seq, frameDur > 0 ? frameDur : seq.frameDuration, scale);
+    }
+
+    /** Variant 0, slower and larger: boss kills. */
+    public void spawnBig(float cx, float cy) {
+        if (seqs.size > 0) spawn(cx, cy, seqs.first(), 0.06f, 2.5f);
+    }
+
+    private void spawn(float cx, float cy, Assets.ExplosionSeq seq, float frameDur, float scale) {
+        Explosion e;
+        if (live.size >= cap) { e = live.removeIndex(0); recycled++; }
+        else e = pool.obtain();
+        live.add(e.init(cx, cy, seq, frameDur, scale));
+        spawned++;
+    }
+
+    public void render(SpriteBatch sb) {
+        for (int i = 0; i < live.size; i++) live.get(i).render(sb);
+    }
+
+    /** Lowers (or restores) the live cap, ending the oldest effects at once if there are more. */
+    public void setCap(int cap) {
+        this.cap = Math.max(1, Math.min(MAX_LIVE, cap));
+        while (live.size > this.cap) { pool.free(live.removeIndex(0)); recycled++; }
+    }
+    public int getCap() { return cap; }
+
+    /** Ends every live effect (a new session starts on a clean screen). */
+    public void clear() {
+        for (int i = 0; i < live.size; i++) pool.free(live.get(i));
+        live.clear();
+    }
+
+    public void toggleStress() { stressRate = stressRate > 0f ? 0f : STRESS_RATE; stressDue = 0f; }
+    public boolean isStressing() { return stressRate > 0f; }
+
+    public int getLive() { return live.size; }
+    public long getSpawned() { return spawned; }
+    public long getRecycled() { return recycled; }
+    public CountingPool<Explosion> getPool() { return pool; }
+}
@@ -1,45 +1,209 @@
 package com.rgs.galaxyinvaders.fx;
 
-import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
 import com.rgs.galaxyinvaders.config.Constants;
 
-public class Starfield {
-    static class Star { float x,y,spd,size; Color c; }
-    private final Array<Star> stars = new Array<>();
-
-    public Starfield(int count) {
-        for (int i=0;i<count;i++) {
-            Star s = new Star();
-            s.x = MathUtils.random(0, Constants.W);
-            s.y = MathUtils.random(0, Constants.H);
-            s.spd = MathUtils.random(30f, 180f);
-            s.size = MathUtils.random(1.2f, 2.8f);
-            float g = MathUtils.random(0.6f, 1f);
-            s.c = new Color(g, g, 1f, 1f);
-            stars.add(s);
+/**
+ * Parallax starfield. Stars never move on the CPU: each layer scrolls at one speed, so a frame only advances
+ * {@link #LAYERS} offsets and the vertex shader places (and wraps) every star from its base position.
+ * The static mesh is built on first render; if the shader can't be used (or on WebGL) the same layout is
+ * drawn through ShapeRenderer instead. Layers are interleaved in star order, so drawing only the first
+ * {@link #setDensity density} share of the stars thins every layer evenly (one draw, no rebuild).
+ */
+public class Starfield implements Disposable {
+    public static final int LAYERS = 3;
+    private static final float[] LAYER_SPEED  = { 40f, 90f, 160f };
+    private static final float[] LAYER_SHARE  = { 0.6f, 0.3f, 0.1f };
+    private static final float[] LAYER_SIZE   = { 1.2f, 1.6f, 1.6f, 2.2f, 2.2f, 2.8f }; // min, max per layer
+    private static final float[] LAYER_BRIGHT = { 0.6f, 0.75f, 0.75f, 0.9f, 0.9f, 1f };
+
+    private static final int FLOATS_PER_VERTEX = 7;          // x, y, corner.xy, size, brightness, layer
+    private static final int STARS_PER_MESH = 65536 / 4;     // short indices, 4 vertices per star
+
+    // Star layout (structure of arrays, shared by both paths)
+    private final int count;
+    private final float[] x, y, size, bright;
+    private final byte[] layer;
+    private final float[] offsets = new float[4]; // per-layer scroll, kept in [0, H) so precision never drifts
+
+    private int visible;          // stars drawn: a prefix of the layout
+    private int cpuSegments = 8;  // circle segments per star on the ShapeRenderer path
+
+    private Array<Mesh> meshes;
+    private ShaderProgram shader;
+    private boolean cpuFallback = false;
+
+    /** Star layout comes from {@code seed}, so a replayed session shows the same sky. */
+    public Starfield(int count, long seed) {
+        this.count = count;
+        x = new float[count]; y = new float[count]; size = new float[count]; bright = new float[count];
+        layer = new byte[count];
+        visible = count;
+        layout(seed);
+    }
+
+    /** A new sky from {@code seed} in the same arrays and, once built, the same meshes (re-uploaded in place). */
+    public void reseed(long seed) {
+        layout(seed);
+        for (int l = 0; l < LAYERS; l++) offsets[l] = 0f;
+        if (meshes == null) return;
+        for (int k = 0, first = 0; k < meshes.size; k++, first += STARS_PER_MESH) {
+            meshes.get(k).setVertices(vertices(first, Math.min(count, first + STARS_PER_MESH)));
+        }
+    }
+
+    private void layout(long seed) {
+        RandomXS128 random = new RandomXS128(seed);
+        int[] placed = new int[LAYERS];
+        for (int i = 0; i < count; i++) {
+            // Next star goes to the layer furthest behind its share, so every prefix keeps the layer mix
+            int l = 0;
+            for (int k = 1; k < LAYERS; k++) {
+                if (LAYER_SHARE[k] * (i + 1) - placed[k] > LAYER_SHARE[l] * (i + 1) - placed[l]) l = k;
+            }
+            placed[l]++;
+            layer[i] = (byte) l;
+            x[i] = range(random, 0, Constants.W);
+            y[i] = range(random, 0, Constants.H);
+            size[i] = range(random, LAYER_SIZE[l * 2], LAYER_SIZE[l * 2 + 1]);
+            bright[i] = range(random, LAYER_BRIGHT[l * 2], LAYER_BRIGHT[l * 2 + 1]);
         }
     }
 
+    /** Draws only {@code fraction} (0..1) of the stars, spread over all layers. */
+    public void setDensity(float fraction) { visible = Math.max(0, Math.min(count, Math.round(count * fraction))); }
+
+    /** Circle segments per star when drawing through ShapeRenderer (WebGL / no shader). */
+    public void setCpuSegments(int segments) { cpuSegments = Math.max(3, segments); }
+
+    private static float range(RandomXS128 random, float lo, float hi) { return lo + random.nextFloat() * (hi - lo); }
+
+    /** The only per-frame CPU work: one offset per layer. */
     public void update(float dt) {
-        for (Star s : stars) {
-            s.y -= s.spd * dt;
-            if (s.y < 0) { s.y = Constants.H; s.x = MathUtils.random(0, Constants.W); }
+        for (int l = 0; l < LAYERS; l++) offsets[l] = (offsets[l] + LAYER_SPEED[l] * dt) % Constants.H;
+    }
+
+    public void render(ShapeRenderer sr, Matrix4 proj) {
+        if (meshes == null && !cpuFallback) createGpuResources();
+        if (cpuFallback) { renderCpu(sr, proj); return; }
+
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", proj);
+        shader.setUniformf("u_offsets", offsets[0], offsets[1], offsets[2], offsets[3]);
+        shader.setUniformf("u_height", Constants.H);
+        for (int k = 0, left = visible; k < meshes.size && left > 0; k++, left -= STARS_PER_MESH) {
+            meshes.get(k).render(shader, GL20.GL_TRIANGLES, 0, Math.min(left, STARS_PER_MESH) * 6);
         }
     }
 
-    public void render(ShapeRenderer sr, float dt, Matrix4 proj) {
-        update(dt);
+    private void renderCpu(ShapeRenderer sr, Matrix4 proj) {
         sr.setProjectionMatrix(proj);
         sr.begin(ShapeRenderer.ShapeType.Filled);
-        for (Star s : stars) {
-            sr.setColor(s.c);
-            sr.circle(s.x, s.y, s.size, 8);
+        for (int i = 0; i < visible; i++) {
+            float sy = y[i] - offsets[layer[i]];
+            if (sy < 0) sy += Constants.H;
+            sr.setColor(bright[i], bright[i], 1f, 1f);
+            sr.circle(x[i], sy, size[i], cpuSegments);
         }
         sr.end();
     }
+
+    private void createGpuResources() {
+        if (Gdx.app.getType() == Application.ApplicationType.WebGL) { cpuFallback = true; return; }
+        shader = new ShaderProgram(VERTEX, FRAGMENT);
+        if (!shader.isCompiled()) {
+            Gdx.app.error("Starfield", "Shader failed, using CPU stars: " + shader.getLog());
+            shader.dispose();
+            shader = null;
+            cpuFallback = true;
+            return;
+        }
+        meshes = new Array<>();
+        for (int first = 0; first < count; first += STARS_PER_MESH) meshes.add(buildMesh(first, Math.min(count, first + STARS_PER_MESH)));
+    }
+
+    private float[] vertices(int from, int to) {
+        float[] v = new float[(to - from) * 4 * FLOATS_PER_VERTEX];
+        int o = 0;
+        for (int i = from; i < to; i++) {
+            for (int c = 0; c < 4; c++) {
+                v[o++] = x[i];
+                v[o++] = y[i];
+                v[o++] = (c == 0 || c == 3) ? -1f : 1f;
+                v[o++] = c < 2 ? -1f : 1f;
+                v[o++] = size[i];
+                v[o++] = bright[i];
+                v[o++] = layer[i];
+            }
+        }
+        return v;
+    }
+
+    private Mesh buildMesh(int from, int to) {
+        int stars = to - from;
+        short[] idx = new short[stars * 6];
+        for (int s = 0; s < stars; s++) {
+            int b = s * 4, k = s * 6;
+            idx[k] = (short) b; idx[k + 1] = (short) (b + 1); idx[k + 2] = (short) (b + 2);
+            idx[k + 3] = (short) (b + 2); idx[k + 4] = (short) (b + 3); idx[k + 5] = (short) b;
+        }
+        Mesh mesh = new Mesh(true, stars * 4, stars * 6,
+            new VertexAttribute(Usage.Position, 2, "a_position"),
+            new VertexAttribute(Usage.Generic, 2, "a_corner"),
+            new VertexAttribute(Usage.Generic, 3, "a_star"));
+        mesh.setVertices(vertices(from, to));
+        mesh.setIndices(idx);
+        return mesh;
+    }
+
+    // a_star = (size, brightness, layer). The layer picks its scroll offset; mod() does the wrap-around.
+    private static final String VERTEX =
+        "attribute vec2 a_position;\n" +
+        "attribute vec2 a_corner;\n" +
+        "attribute vec3 a_star;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "uniform vec4 u_offsets;\n" +
+        "uniform float u_height;\n" +
+        "varying vec2 v_corner;\n" +
+        "varying float v_bright;\n" +
+        "void main() {\n" +
+        "  vec4 pick = vec4(equal(vec4(a_star.z), vec4(0.0, 1.0, 2.0, 3.0)));\n" +
+        "  float y = mod(a_position.y - dot(u_offsets, pick), u_height);\n" +
+        "  v_corner = a_corner;\n" +
+        "  v_bright = a_star.y;\n" +
+        "  gl_Position = u_projTrans * vec4(a_position.x + a_corner.x * a_star.x, y + a_corner.y * a_star.x, 0.0, 1.0);\n" +
+        "}\n";
+
+    private static final String FRAGMENT =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "varying vec2 v_corner;\n" +
+        "varying float v_bright;\n" +
+        "void main() {\n" +
+        "  float a = 1.0 - smoothstep(0.8, 1.0, length(v_corner));\n" +
+        "  gl_FragColor = vec4(v_bright, v_bright, 1.0, a);\n" +
+        "}\n";
+
+    public int getCount() { return count; }
+    public int getVisible() { return visible; }
+    public boolean isCpuFallback() { return cpuFallback; }
+
+    @Override public void dispose() {
+        if (meshes != null) { for (Mesh m : meshes) m.dispose(); meshes = null; }
+        if (shader != null) { shader.dispose(); shader = null; }
+    }
 }
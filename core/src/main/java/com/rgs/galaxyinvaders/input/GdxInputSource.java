@@ -0,0 +1,30 @@
+package com.rgs.galaxyinvaders.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.MathUtils;
+import com.rgs.galaxyinvaders.world.InputSource;
+
+/** Live controls for the world: on-screen touch controls combined with the keyboard. */
+public class GdxInputSource implements InputSource {
+    private final TouchControls touch;
+    private boolean enabled = true;
+
+    public GdxInputSource(TouchControls touch) { this.touch = touch; }
+
+    /** Disabled while paused or game over: reports no movement and no fire. */
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    @Override public float moveAxis() {
+        if (!enabled) return 0f;
+        // Combine touch axis with keyboard (whichever has stronger intent)
+        float dir = touch.getMoveAxis();
+        if (Gdx.input.isKeyPressed(Input.Keys.A) || Gdx.input.isKeyPressed(Input.Keys.LEFT))  dir -= 1f;
+        if (Gdx.input.isKeyPressed(Input.Keys.D) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) dir += 1f;
+        return MathUtils.clamp(dir, -1f, 1f);
+    }
+
+    @Override public boolean fire() {
+        return enabled && (touch.isFiring() || Gdx.input.isKeyPressed(Input.Keys.SPACE));
+    }
+}
@@ -3,7 +3,9 @@ package com.rgs.galaxyinvaders.input;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
  * Touch controls:
@@ -73,17 +75,16 @@ public class TouchControls {
     public boolean isFiring()  { return firing; }
 
     /** Draw only the joystick (and only while active). No fire button is rendered. */
-    public void render(ShapeRenderer sr) {
+    public void render(SpriteBatch sb, TextureRegion dot) {
         if (!joystickActive) return;
 
-        sr.begin(ShapeRenderer.ShapeType.Filled);
         // Base (semi-transparent)
-        sr.setColor(0.2f, 0.2f, 0.25f, 0.45f);
-        sr.circle(joyCenter.x, joyCenter.y, joyOuterR, 28);
+        sb.setColor(0.2f, 0.2f, 0.25f, 0.45f);
+        sb.draw(dot, joyCenter.x - joyOuterR, joyCenter.y - joyOuterR, joyOuterR * 2f, joyOuterR * 2f);
         // Knob (bright)
-        sr.setColor(0.9f, 0.9f, 1f, 0.85f);
-        sr.circle(knobPos.x, knobPos.y, joyKnobR, 24);
-        sr.end();
+        sb.setColor(0.9f, 0.9f, 1f, 0.85f);
+        sb.draw(dot, knobPos.x - joyKnobR, knobPos.y - joyKnobR, joyKnobR * 2f, joyKnobR * 2f);
+        sb.setColor(Color.WHITE);
     }
 
     private static float clamp(float v, float lo, float hi) { return v < lo ? lo : (v > hi ? hi : v); }
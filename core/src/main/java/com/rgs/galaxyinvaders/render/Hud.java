@@ -0,0 +1,45 @@
+package com.rgs.galaxyinvaders.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.rgs.galaxyinvaders.config.Constants;
+
+/**
+ * Score / lives / wave lines. Each line keeps its own text buffer and laid-out glyphs and is only
+ * rebuilt when one of its numbers changes, so a steady HUD frame is just three cached draws
+ * (libGDX's StringBuilder appends ints without allocating).
+ */
+public class Hud {
+    private static final class Line {
+        final StringBuilder text = new StringBuilder(32);
+        final GlyphLayout layout = new GlyphLayout();
+        int a = Integer.MIN_VALUE, b = Integer.MIN_VALUE;
+
+        /** True if the values differ from what is laid out (and remembers them). */
+        boolean changed(int a, int b) {
+            if (a == this.a && b == this.b) return false;
+            this.a = a; this.b = b;
+            text.setLength(0);
+            return true;
+        }
+    }
+
+    private final Line score = new Line(), lives = new Line(), wave = new Line();
+    private BitmapFont font; // layouts belong to this font
+
+    public void render(Batch sb, BitmapFont font, int scoreValue, int livesValue, int waveValue, int bosses) {
+        if (font != this.font) { this.font = font; score.a = lives.a = wave.a = Integer.MIN_VALUE; }
+        font.setColor(Color.WHITE);
+        if (score.changed(scoreValue, 0)) layout(score.text.append("Score: ").append(scoreValue), score);
+        if (lives.changed(livesValue, 0)) layout(lives.text.append("Lives: ").append(livesValue), lives);
+        if (wave.changed(waveValue, bosses)) layout(wave.text.append("Wave: ").append(waveValue).append("   Bosses: ").append(bosses), wave);
+        font.draw(sb, score.layout, 10, Constants.H - 10);
+        font.draw(sb, lives.layout, 10, Constants.H - 35);
+        font.draw(sb, wave.layout, 10, Constants.H - 60);
+    }
+
+    private void layout(StringBuilder text, Line line) { line.layout.setText(font, text); }
+}
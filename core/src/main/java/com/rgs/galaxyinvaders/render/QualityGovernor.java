@@ -0,0 +1,97 @@
+package com.rgs.galaxyinvaders.render;
+
+import java.util.Arrays;
+
+import com.rgs.galaxyinvaders.fx.ExplosionSystem;
+
+/**
+ * Picks a presentation {@link Tier} from measured frame cost. Every frame goes into a rolling window; a full window
+ * averaging over the budget steps one tier down at once, while stepping back up needs the average well under budget
+ * for a sustained hold. An upgrade that gets undone soon after doubles the next hold, so a device sitting on a
+ * tier boundary settles instead of flickering. Pure arithmetic on the values fed in, so any frame-time trace can be
+ * replayed through it.
+ */
+public class QualityGovernor {
+    /** Presentation settings per tier, best first. Gameplay is never touched. */
+    public enum Tier {
+        HIGH(1f, 8, ExplosionSystem.MAX_LIVE, 1f, true, true),
+        MEDIUM(0.6f, 6, 48, 0.6f, true, true),
+        LOW(0.35f, 5, 24, 0.3f, false, false),
+        MINIMAL(0.15f, 4, 8, 0f, false, false);
+
+        public final float starDensity;   // share of the starfield drawn
+        public final int starSegments;    // circle segments per star without the star shader
+        public final int maxExplosions;
+        public final float shakeScale;
+        public final boolean flash;       // full-screen boss-kill flash
+        public final boolean lerpBullets; // interpolate bullets between steps (else draw at the last step)
+
+        Tier(float starDensity, int starSegments, int maxExplosions, float shakeScale, boolean flash, boolean lerpBullets) {
+            this.starDensity = starDensity; this.starSegments = starSegments; this.maxExplosions = maxExplosions;
+            this.shakeScale = shakeScale; this.flash = flash; this.lerpBullets = lerpBullets;
+        }
+    }
+
+    public static final float BUDGET_60HZ = 1f / 60f;
+    public static final int WINDOW = 60;                  // frames averaged before any decision
+    private static final float MISSED = 1.25f;            // a delta this far over budget counts whole (GPU or vsync miss)
+    private static final float SPIKE_CAP = 4f;            // one hitch weighs at most 4 budgets in the average
+    private static final float DOWN = 1f, UP = 0.6f;      // average vs budget that steps down / allows stepping up
+    private static final int UP_HOLD = 240, MAX_UP_HOLD = UP_HOLD * 8;
+    private static final Tier[] TIERS = Tier.values();
+
+    private final float budget;
+    private final float[] window = new float[WINDOW];
+    private int head, filled;
+    private float sum;
+    private Tier tier = Tier.HIGH;
+    private int headroomFrames, upHold = UP_HOLD, sinceUpgrade = Integer.MAX_VALUE, transitions;
+
+    /** {@code budget} is the frame time to hold, in seconds (e.g. {@link #BUDGET_60HZ}). */
+    public QualityGovernor(float budget) { this.budget = budget; }
+
+    /**
+     * Feeds one frame and returns true if the tier changed. A frame costs its CPU work ({@code workSeconds}),
+     * unless its delta shows it missed the budget anyway (GPU-bound), in which case it costs the whole delta.
+     */
+    public boolean sample(float frameDelta, float workSeconds) {
+        float cost = Math.min(frameDelta > budget * MISSED ? frameDelta : workSeconds, budget * SPIKE_CAP);
+        sum += cost - window[head];
+        window[head] = cost;
+        head = (head + 1) % WINDOW;
+        if (head == 0) { sum = 0f; for (float c : window) sum += c; } // drop float drift once per lap
+        if (filled < WINDOW) { filled++; return false; }
+        if (sinceUpgrade < Integer.MAX_VALUE) sinceUpgrade++;
+
+        float average = sum / WINDOW;
+        if (average > budget * DOWN && tier.ordinal() < TIERS.length - 1) {
+            if (sinceUpgrade < UP_HOLD) upHold = Math.min(MAX_UP_HOLD, upHold * 2); // the last upgrade did not hold
+            sinceUpgrade = Integer.MAX_VALUE;
+            return change(TIERS[tier.ordinal() + 1]);
+        }
+        if (average < budget * UP) {
+            if (++headroomFrames >= upHold && tier.ordinal() > 0) {
+                sinceUpgrade = 0;
+                return change(TIERS[tier.ordinal() - 1]);
+            }
+        } else headroomFrames = 0;
+        return false;
+    }
+
+    /** The new tier is judged on its own frames only. */
+    private boolean change(Tier next) {
+        tier = next;
+        transitions++;
+        headroomFrames = 0;
+        filled = 0;
+        head = 0;
+        sum = 0f;
+        Arrays.fill(window, 0f);
+        return true;
+    }
+
+    public Tier getTier() { return tier; }
+    public float getAverage() { return filled == 0 ? 0f : sum / filled; }
+    public float getBudget() { return budget; }
+    public int getTransitions() { return transitions; }
+}
@@ -0,0 +1,73 @@
+package com.rgs.galaxyinvaders.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Disposable;
+import com.rgs.galaxyinvaders.assets.Assets;
+import com.rgs.galaxyinvaders.fx.Starfield;
+import com.rgs.galaxyinvaders.ui.UiFactory;
+
+/**
+ * GL resources that live as long as the application: one sprite batch, shape renderer, UI skin, starfield,
+ * frame cache and GL profiler, made on first use and handed to every screen. Screens draw with them but never dispose them, so
+ * going menu → game → retry → menu allocates no new buffers or shaders. The font stays owned by {@link Assets}.
+ */
+public class RenderContext implements Disposable {
+    public static final int STARS = 220;
+
+    public final SpriteBatch batch = new SpriteBatch();
+    public final ShapeRenderer shapes = new ShapeRenderer();
+    /** Wraps the GL only while enabled (F3 in a game); GameScreen disables it again when disposed. */
+    public final GLProfiler glProfiler = new GLProfiler(Gdx.graphics);
+    private final Assets assets;
+    private Skin skin;
+    private Starfield starfield;
+    private FrameBuffer frameCache;
+
+    public RenderContext(Assets assets) { this.assets = assets; }
+
+    public BitmapFont font() { return assets.font; }
+
+    /** The UI skin, built the first time a screen asks (after the atlas is in, see Assets#isMenuReady). */
+    public Skin skin() {
+        if (skin == null) skin = UiFactory.createBasicSkin(assets);
+        return skin;
+    }
+
+    /** The starfield, laid out from {@code seed} (a world's, so replays show the same sky). */
+    public Starfield starfield(long seed) {
+        if (starfield == null) starfield = new Starfield(STARS, seed);
+        else starfield.reseed(seed);
+        return starfield;
+    }
+
+    /** An offscreen colour buffer of exactly {@code width} x {@code height}; only rebuilt when the size changes. */
+    public FrameBuffer frameCache(int width, int height) {
+        if (frameCache == null || frameCache.getWidth() != width || frameCache.getHeight() != height) {
+            if (frameCache != null) frameCache.dispose();
+            frameCache = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        }
+        return frameCache;
+    }
+
+    // Managed GL objects alive right now (every owner, not just this context); flat across screen changes when nothing leaks
+    public static int getTextureCount() { return Texture.getNumManagedTextures(); }
+    public static int getShaderCount() { return ShaderProgram.getNumManagedShaderPrograms(); }
+
+    @Override public void dispose() {
+        glProfiler.disable();
+        batch.dispose();
+        shapes.dispose();
+        if (skin != null) { skin.dispose(); skin = null; }
+        if (starfield != null) { starfield.dispose(); starfield = null; }
+        if (frameCache != null) { frameCache.dispose(); frameCache = null; }
+    }
+}
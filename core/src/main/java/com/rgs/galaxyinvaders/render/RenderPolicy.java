@@ -0,0 +1,67 @@
+package com.rgs.galaxyinvaders.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Continuous rendering while something moves (gameplay, loading), render-on-demand while the picture is static
+ * (menu, pause, game over). When idle libGDX only draws a frame for an input event or {@link #requestFrame()},
+ * so a still screen stops costing a full redraw every vsync. Each idle spell logs how many frames it actually
+ * drew per minute, which shows what keeps waking it.
+ */
+public class RenderPolicy {
+    private static final float REPORT_AFTER = 5f; // seconds; shorter spells (a quick pause) are not logged
+
+    private boolean idle;
+    private long idleSince;
+    private int idleFrames;
+    private long totalIdleNanos, totalIdleFrames;
+
+    public void setIdle(boolean idle) {
+        if (idle == this.idle) return;
+        this.idle = idle;
+        Gdx.graphics.setContinuousRendering(!idle);
+        if (idle) {
+            idleSince = TimeUtils.nanoTime();
+            idleFrames = 0;
+            Gdx.graphics.requestRendering();
+        } else endSpell();
+    }
+
+    /** Once per rendered frame (the game's render()). */
+    public void onFrame() { if (idle) idleFrames++; }
+
+    /** One more frame while idle; does nothing while rendering continuously. */
+    public void requestFrame() { if (idle) Gdx.graphics.requestRendering(); }
+
+    /** Keeps frames coming while any actor on {@code stage} still runs actions (UI animation). */
+    public void keepAlive(Stage stage) { if (idle && hasActions(stage.getRoot())) Gdx.graphics.requestRendering(); }
+
+    private static boolean hasActions(Actor actor) {
+        if (actor.hasActions()) return true;
+        if (!(actor instanceof Group)) return false;
+        SnapshotArray<Actor> children = ((Group) actor).getChildren();
+        for (int i = 0; i < children.size; i++) if (hasActions(children.get(i))) return true;
+        return false;
+    }
+
+    private void endSpell() {
+        long nanos = TimeUtils.timeSinceNanos(idleSince);
+        totalIdleNanos += nanos;
+        totalIdleFrames += idleFrames;
+        float seconds = nanos / 1e9f;
+        if (seconds >= REPORT_AFTER) {
+            Gdx.app.log("RenderPolicy", "Idle " + Math.round(seconds) + " s: " + idleFrames + " frames ("
+                + Math.round(idleFrames * 60f / seconds) + " per minute, " + Math.round(getFramesPerIdleMinute()) + " overall)");
+        }
+    }
+
+    public boolean isIdle() { return idle; }
+
+    /** Frames drawn per minute spent idle, over all finished spells. */
+    public float getFramesPerIdleMinute() { return totalIdleNanos == 0 ? 0f : totalIdleFrames * 60e9f / totalIdleNanos; }
+}
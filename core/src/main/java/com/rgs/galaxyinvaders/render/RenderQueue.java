@@ -0,0 +1,92 @@
+package com.rgs.galaxyinvaders.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.rgs.galaxyinvaders.profile.PhaseProfiler;
+
+/**
+ * Frame draw list. Commands are submitted with a layer and a material; {@link #flush} draws them layer by
+ * layer and opens one SpriteBatch / ShapeRenderer pass per run of equal materials instead of one per command.
+ * Inside a layer below {@link #FIRST_ORDERED_LAYER} commands are grouped by material (their order is free);
+ * from that layer up (HUD, UI) submission order is kept exactly. CUSTOM commands manage their own GL state
+ * and always get a pass of their own.
+ */
+public class RenderQueue {
+    public static final int LAYER_BACKGROUND = 0, LAYER_PLAYFIELD = 1, LAYER_FX = 2,
+        LAYER_CONTROLS = 3, LAYER_OVERLAY = 4, LAYER_UI = 5, LAYER_HUD = 6;
+    public static final int FIRST_ORDERED_LAYER = LAYER_CONTROLS;
+
+    public enum Material { SPRITE, SHAPES, CUSTOM }
+
+    /** A reusable draw; only the renderer matching its material is active (both are passed for convenience). */
+    public interface Command { void draw(SpriteBatch batch, ShapeRenderer shapes); }
+
+    private final Array<Command> commands = new Array<>();
+    private final Array<Material> materials = new Array<>();
+    private final IntArray phases = new IntArray();
+    private final LongArray keys = new LongArray();
+    private PhaseProfiler profiler;
+
+    private int passes, savedPasses;
+
+    public void setProfiler(PhaseProfiler profiler) { this.profiler = profiler; }
+
+    /** {@code phase} is the profiler phase the draw is timed under, or -1. */
+    public void submit(int layer, Material material, int phase, Command command) {
+        int seq = commands.size;
+        commands.add(command);
+        materials.add(material);
+        phases.add(phase);
+        long group = layer < FIRST_ORDERED_LAYER ? material.ordinal() : 0;
+        keys.add(((long) layer << 40) | (group << 32) | seq);
+    }
+
+    public void flush(SpriteBatch batch, ShapeRenderer shapes) {
+        keys.sort();
+        Material active = null;
+        passes = 0;
+        for (int i = 0; i < keys.size; i++) {
+            int seq = (int) keys.get(i);
+            Material m = materials.get(seq);
+            if (m != active || m == Material.CUSTOM) {
+                end(active, batch, shapes);
+                begin(m, batch, shapes);
+                active = m;
+                passes++;
+            }
+            int phase = phases.get(seq);
+            if (profiler != null && phase >= 0) profiler.begin(phase);
+            commands.get(seq).draw(batch, shapes);
+            if (profiler != null && phase >= 0) profiler.end(phase);
+        }
+        end(active, batch, shapes);
+        savedPasses = commands.size - passes; // each command used to open its own pass
+        commands.clear();
+        materials.clear();
+        phases.clear();
+        keys.clear();
+    }
+
+    private static void begin(Material m, SpriteBatch batch, ShapeRenderer shapes) {
+        if (m == Material.SPRITE) batch.begin();
+        else if (m == Material.SHAPES) {
+            Gdx.gl.glEnable(GL20.GL_BLEND);
+            shapes.begin(ShapeRenderer.ShapeType.Filled);
+        }
+    }
+
+    private static void end(Material m, SpriteBatch batch, ShapeRenderer shapes) {
+        if (m == Material.SPRITE) batch.end();
+        else if (m == Material.SHAPES) shapes.end();
+    }
+
+    /** Passes (begin/end pairs plus custom draws) used by the last flush. */
+    public int getPasses() { return passes; }
+    /** Passes the last flush saved compared to one pass per command. */
+    public int getSavedPasses() { return savedPasses; }
+}
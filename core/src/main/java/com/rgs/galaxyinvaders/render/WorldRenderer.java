@@ -0,0 +1,206 @@
+package com.rgs.galaxyinvaders.render;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+import com.rgs.galaxyinvaders.assets.Assets;
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.fx.ExplosionSystem;
+import com.rgs.galaxyinvaders.fx.Starfield;
+import com.rgs.galaxyinvaders.snapshot.RenderSnapshot;
+import com.rgs.galaxyinvaders.world.BulletStore;
+import com.rgs.galaxyinvaders.world.EnemyStore;
+
+/**
+ * Draws a world's {@link RenderSnapshot} (never the live world, which may be ticking on another thread)
+ * and owns everything that is only presentation: sprites, explosions and camera shake / flash feedback. The starfield
+ * is borrowed from the {@link RenderContext}; it is drawn and tuned here but not disposed.
+ */
+public class WorldRenderer {
+    private final Assets assets;
+    private RenderSnapshot snap;
+
+    private final ExplosionSystem explosions;
+
+    // Background (shared, see RenderContext)
+    private final Starfield starfield;
+
+    private final Hud hud = new Hud();
+    private QualityGovernor.Tier quality = QualityGovernor.Tier.HIGH;
+
+    // Camera feedback
+    private float shakeTime = 0f, shakeStrength = 0f;
+    private float flashTime = 0f; // boss-kill flash
+
+    /** {@code starfield} should already be seeded from the world (see RenderContext#starfield), so it matches across replays. */
+    public WorldRenderer(Starfield starfield, Assets assets) {
+        this.assets = assets;
+        this.starfield = starfield;
+        this.explosions = new ExplosionSystem(assets.explosions);
+        setQuality(quality); // the shared starfield may still be thinned out by the last screen
+    }
+
+    /** Clears effects and camera feedback left over from the last session (Retry). */
+    public void reset() {
+        explosions.clear();
+        shakeTime = shakeStrength = 0f;
+        flashTime = 0f;
+    }
+
+    /** The snapshot the next draws read; set once per frame before submitting them. */
+    public void setSnapshot(RenderSnapshot snap) { this.snap = snap; }
+
+    /** Advances presentation-only state; pass 0 to freeze it with the world. */
+    public void update(float dt) {
+        starfield.update(dt);
+        if (flashTime > 0f) flashTime -= dt;
+        explosions.update(dt);
+    }
+
+    // ---------- Feedback (fed from WorldEvents) ----------
+    public void spawnExplosion(float cx, float cy, float frameDur, float scale) { explosions.spawn(cx, cy, frameDur, scale); }
+    public void spawnBigExplosion(float cx, float cy) { explosions.spawnBig(cx, cy); }
+    public void shake(float t, float s) {
+        if (quality.shakeScale <= 0f) return;
+        shakeTime = Math.max(shakeTime, t); shakeStrength = Math.max(shakeStrength, s * quality.shakeScale);
+    }
+    public void flash(float t) { if (quality.flash) flashTime = Math.max(flashTime, t); }
+
+    /** Applies a presentation tier (see QualityGovernor); takes effect from the next frame. */
+    public void setQuality(QualityGovernor.Tier tier) {
+        quality = tier;
+        starfield.setDensity(tier.starDensity);
+        starfield.setCpuSegments(tier.starSegments);
+        explosions.setCap(tier.maxExplosions);
+        if (!tier.flash) flashTime = 0f;
+    }
+    public QualityGovernor.Tier getQuality() { return quality; }
+
+    // ---------- Drawing ----------
+    public void renderBackground(ShapeRenderer sr, OrthographicCamera cam) {
+        starfield.render(sr, cam.combined);
+    }
+
+    /** {@code alpha} interpolates positions between the last two simulation steps (see FixedStepClock). */
+    public void renderSprites(SpriteBatch sb, float alpha) {
+        final RenderSnapshot s = snap;
+        float blink = s.blinkTimer;
+        if (!(blink > 0 && ((int)(blink * 20) % 2 == 0))) draw(sb, playerSprite(), s.playerLerpX(alpha), s.playerLerpY(alpha), s.playerW, s.playerH, 0f);
+
+        EnemyStore es = s.enemies;
+        for (int i = 0; i < es.size; i++) draw(sb, enemySprite(es.variant[i]), es.lerpX(i, alpha), es.lerpY(i, alpha), es.w[i], es.h[i], es.hitTimer[i]);
+
+        if (s.hasBoss) {
+            draw(sb, assets.bossShip != null ? assets.bossShip : assets.white1x1, s.bossLerpX(alpha), s.bossLerpY(alpha), s.bossW, s.bossH, s.bossHitTimer);
+            renderBossBar(sb, s.bossHp, s.bossMaxHp);
+        }
+
+        explosions.render(sb);
+    }
+
+    /** Sprite plus its on-hit red overlay. */
+    private void draw(SpriteBatch sb, TextureRegion sprite, float x, float y, float w, float h, float hitTimer) {
+        if (sprite == null) return;
+        sb.draw(sprite, x, y, w, h);
+        if (hitTimer > 0f) {
+            float a = Math.min(0.6f, hitTimer / 0.12f);
+            sb.setColor(1f, 0f, 0f, a);
+            sb.draw(sprite, x, y, w, h);
+            sb.setColor(Color.WHITE);
+        }
+    }
+
+    // HP bar (uses 1x1 white texture)
+    private void renderBossBar(SpriteBatch sb, int hp, int maxHp) {
+        TextureRegion white = assets.white1x1;
+        if (white == null) return;
+        float pct = Math.max(0f, (float) hp / maxHp);
+        float barW = 400f, barH = 8f;
+        float barX = (Constants.W - barW) / 2f;
+        float barY = Constants.H - 26f;
+
+        sb.setColor(Color.DARK_GRAY);
+        sb.draw(white, barX, barY, barW, barH);
+
+        sb.setColor(Color.RED);
+        sb.draw(white, barX, barY, barW * pct, barH);
+
+        sb.setColor(Color.WHITE);
+    }
+
+    private TextureRegion playerSprite() { return assets.playerShip != null ? assets.playerShip : assets.white1x1; }
+    private TextureRegion enemySprite(int variant) { return variant >= 0 ? assets.enemyShips.get(variant) : playerSprite(); }
+
+    /** Bullets are tinted quads of the baked dot, so they share the sprite batch (one texture swap, no fans). */
+    public void renderBullets(SpriteBatch sb, float alpha) {
+        if (!quality.lerpBullets) alpha = 1f;
+        TextureRegion dot = assets.dot;
+        sb.setColor(Color.LIME);
+        BulletStore pb = snap.playerBullets;
+        for (int i = 0; i < pb.size; i++) {
+            float r = pb.radius(i);
+            sb.draw(dot, pb.lerpCx(i, alpha) - r, pb.lerpCy(i, alpha) - r, r * 2f, r * 2f);
+        }
+
+        sb.setColor(Color.RED);
+        BulletStore eb = snap.enemyBullets;
+        for (int i = 0; i < eb.size; i++) {
+            float r = eb.radius(i);
+            sb.draw(dot, eb.lerpCx(i, alpha) - r, eb.lerpCy(i, alpha) - r, r * 2f, r * 2f);
+        }
+        sb.setColor(Color.WHITE);
+    }
+
+    public void renderPowerUps(SpriteBatch sb, float alpha) {
+        final RenderSnapshot s = snap;
+        for (int i = 0; i < s.powerUpCount; i++) {
+            switch (s.powerUpType[i]){
+                case RAPID: sb.setColor(Color.YELLOW); break;
+                case SPREAD: sb.setColor(Color.CYAN); break;
+                case SHIELD: sb.setColor(Color.VIOLET); break;
+                case LIFE: sb.setColor(Color.LIME); break;
+            }
+            float size = s.powerUpSize[i];
+            sb.draw(assets.diamond, s.powerUpX[i] - size, s.powerUpLerpY(i, alpha) - size, size * 2f, size * 2f);
+        }
+        sb.setColor(Color.WHITE);
+    }
+
+    public void renderHud(SpriteBatch sb, BitmapFont font) {
+        hud.render(sb, font, snap.score, snap.lives, snap.wave, snap.bossesDefeated);
+    }
+
+    public void renderShield(SpriteBatch sb, float alpha) {
+        final RenderSnapshot s = snap;
+        if (s.shieldTimer > 0) {
+            float r = 26f;
+            sb.setColor(1f, 0f, 1f, 0.5f);
+            sb.draw(assets.dot, s.playerLerpX(alpha) + s.playerW/2f - r, s.playerLerpY(alpha) + s.playerH/2f - r, r * 2f, r * 2f);
+            sb.setColor(Color.WHITE);
+        }
+    }
+
+    public boolean isFlashing() { return flashTime > 0f; }
+
+    public void renderFlash(SpriteBatch sb) {
+        if (flashTime <= 0f) return;
+        sb.setColor(1f, 1f, 1f, MathUtils.clamp(flashTime, 0f, 0.5f));
+        sb.draw(assets.white1x1, 0, 0, Constants.W, Constants.H);
+        sb.setColor(Color.WHITE);
+    }
+
+    public void applyCameraShake(OrthographicCamera cam, float delta) {
+        if (shakeTime > 0f) {
+            shakeTime -= delta;
+            cam.position.x = Constants.W/2f + MathUtils.random(-shakeStrength, shakeStrength);
+            cam.position.y = Constants.H/2f + MathUtils.random(-shakeStrength, shakeStrength);
+        } else cam.position.set(Constants.W/2f, Constants.H/2f, 0);
+    }
+
+    public Starfield getStarfield() { return starfield; }
+    public ExplosionSystem getExplosions() { return explosions; }
+}
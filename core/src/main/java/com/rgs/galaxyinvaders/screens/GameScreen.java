@@ -9,7 +9,10 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -17,29 +20,110 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.rgs.galaxyinvaders.GalaxyInvadersGame;
 import com.rgs.galaxyinvaders.config.Constants;
-import com.rgs.galaxyinvaders.entities.Bullet;
-import com.rgs.galaxyinvaders.entities.PowerUp;
+import com.rgs.galaxyinvaders.debug.ProfilerOverlay;
+import com.rgs.galaxyinvaders.input.GdxInputSource;
 import com.rgs.galaxyinvaders.input.TouchControls;
+import com.rgs.galaxyinvaders.profile.PhaseProfiler;
+import com.rgs.galaxyinvaders.replay.ReplayPlayer;
+import com.rgs.galaxyinvaders.render.QualityGovernor;
+import com.rgs.galaxyinvaders.render.RenderQueue;
+import com.rgs.galaxyinvaders.render.WorldRenderer;
+import com.rgs.galaxyinvaders.snapshot.RenderSnapshot;
 import com.rgs.galaxyinvaders.ui.UiFactory;
+import com.rgs.galaxyinvaders.world.FixedStepClock;
 import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.LatchedInput;
+import com.rgs.galaxyinvaders.world.SimulationLoop;
+import com.rgs.galaxyinvaders.world.SoundCue;
+import com.rgs.galaxyinvaders.world.WorldEvents;
 
 public class GameScreen implements Screen {
+    public static final String REPLAY_FILE = "replays/last.replay";
+
     private final GalaxyInvadersGame game;
     private final OrthographicCamera cam = new OrthographicCamera();
     private final Viewport viewport = new FitViewport(Constants.W, Constants.H, cam);
-    private final SpriteBatch batch = new SpriteBatch();
-    private final ShapeRenderer shapes = new ShapeRenderer();
-    private final BitmapFont font = new BitmapFont();
+    private final SpriteBatch batch;     // shared, owned by the RenderContext
+    private final ShapeRenderer shapes;  // shared, owned by the RenderContext
+    private final BitmapFont font; // shared, owned by Assets
     private final GlyphLayout layout = new GlyphLayout();
 
     private final GameWorld world;
+    private final WorldRenderer renderer;
     private final TouchControls controls = new TouchControls();
+    private final GdxInputSource input = new GdxInputSource(controls);
+    private final LatchedInput latchedInput = new LatchedInput(); // what the world reads; filled from `input` each frame
+    // The world is only touched through the loop: it may tick on its own thread (see SimDriver)
+    private final SimulationLoop loop;
+    private final WorldEvents events;
+    private final boolean replaying;
     private final boolean showTouchUi = true;
 
+    // Frame phase timings, shown with the simulation's by the F3 overlay
+    private static final int PHASE_FRAME = 0, PHASE_SIM = 1, PHASE_STARFIELD = 2, PHASE_PLAYFIELD = 3,
+        PHASE_FLASH = 4, PHASE_TOUCH_UI = 5, PHASE_STAGES = 6, PHASE_HUD = 7;
+    private final PhaseProfiler profiler = new PhaseProfiler(300,
+        "frame", "sim", "starfield", "playfield", "flash", "touch ui", "stages", "hud");
+    private final ProfilerOverlay profilerOverlay;
+    // Steps presentation detail down when frames run over budget, back up when there is headroom
+    private final QualityGovernor quality = new QualityGovernor(QualityGovernor.BUDGET_60HZ);
+
+    // Frame draw list and its reusable commands (state they read is set before submitting)
+    private final RenderQueue queue = new RenderQueue();
+    private float frameAlpha, frameDelta, dimAlpha;
+    private Stage activeStage;
+    private final RenderQueue.Command starfieldCmd = new RenderQueue.Command() {
+        @Override public void draw(SpriteBatch b, ShapeRenderer s) { renderer.renderBackground(s, cam); }
+    };
+    private final RenderQueue.Command playfieldCmd = new RenderQueue.Command() {
+        @Override public void draw(SpriteBatch b, ShapeRenderer s) {
+            renderer.renderSprites(b, frameAlpha);
+            renderer.renderBullets(b, frameAlpha);
+            renderer.renderPowerUps(b, frameAlpha);
+            renderer.renderShield(b, frameAlpha);
+        }
+    };
+    private final RenderQueue.Command flashCmd = new RenderQueue.Command() {
+        @Override public void draw(SpriteBatch b, ShapeRenderer s) { renderer.renderFlash(b); }
+    };
+    private final RenderQueue.Command joystickCmd = new RenderQueue.Command() {
+        @Override public void draw(SpriteBatch b, ShapeRenderer s) { controls.render(b, game.assets.dot); }
+    };
+    private final RenderQueue.Command pauseButtonCmd = new RenderQueue.Command() {
+        @Override public void draw(SpriteBatch b, ShapeRenderer s) { drawPauseButton(b); }
+    };
+    private final RenderQueue.Command dimCmd = new RenderQueue.Command() {
+        @Override public void draw(SpriteBatch b, ShapeRenderer s) { drawDimOverlay(b, dimAlpha); }
+    };
+    private final RenderQueue.Command stageCmd = new RenderQueue.Command() {
+        @Override public void draw(SpriteBatch b, ShapeRenderer s) { activeStage.draw(); }
+    };
+    private final RenderQueue.Command hudCmd = new RenderQueue.Command() {
+        @Override public void draw(SpriteBatch b, ShapeRenderer s) {
+            renderer.renderHud(b, font);
+            profilerOverlay.render(b, font, frameDelta);
+        }
+    };
+
+    // Paused / game over: the playfield and HUD are drawn once into this buffer (the context's frame cache)
+    // and blitted until something changes
+    private FrameBuffer frozenFbo;
+    private TextureRegion frozenRegion;
+    private boolean frozenValid;
+    private final RenderQueue.Command frozenCmd = new RenderQueue.Command() {
+        @Override public void draw(SpriteBatch b, ShapeRenderer s) {
+            b.disableBlending(); // the cached alpha is not coverage
+            b.draw(frozenRegion, 0, 0, Constants.W, Constants.H);
+            b.enableBlending();
+        }
+    };
+
     private boolean paused = false;
     private boolean gameOver = false;
 
@@ -47,29 +131,86 @@ public class GameScreen implements Screen {
     private final Vector2 pauseCenter = new Vector2(Constants.W - 28f, Constants.H - 28f);
     private final float pauseRadius  = 20f;
 
-    // UI stages & skin
+    // UI stages & skin (shared, owned by the RenderContext)
     private Stage pauseStage, overStage;
     private Skin skin;
 
-    public GameScreen(GalaxyInvadersGame game) {
+    public GameScreen(GalaxyInvadersGame game) { this(game, null); }
+
+    /** With {@code replay} bytes (see ReplayRecorder) the session is re-driven from the log instead of live input. */
+    public GameScreen(GalaxyInvadersGame game, byte[] replay) {
         this.game = game;
+        this.batch = game.renderContext.batch;
+        this.shapes = game.renderContext.shapes;
+        this.font = game.renderContext.font();
         viewport.apply(true);
         cam.position.set(Constants.W/2f, Constants.H/2f, 0);
-        world = new GameWorld(game);
+        replaying = replay != null;
+        FixedStepClock clock;
+        if (replaying) {
+            ReplayPlayer player = new ReplayPlayer(replay);
+            clock = new FixedStepClock(1f / player.getStep(), Constants.MAX_STEPS_PER_FRAME);
+            world = game.world(player.getSeed());
+            world.setBulletHell(player.isBulletHell());
+            world.setInvulnerable(player.isInvulnerable());
+            world.setInput(player);
+        } else {
+            clock = new FixedStepClock(Constants.SIM_HZ, Constants.MAX_STEPS_PER_FRAME);
+            world = game.world(MathUtils.random.nextLong());
+            // Nobody dodges 10k bullets on this field: the tier is a spectacle and stress run, so the ship cannot die
+            world.setBulletHell(game.isBulletHell());
+            world.setInvulnerable(game.isBulletHell());
+            world.setInput(latchedInput);
+            world.startRecording(clock.getStep());
+        }
+        world.setBossPatterns(game.assets.bossPatterns);
+        world.setChunkRunner(game.chunkRunner);
+        renderer = new WorldRenderer(game.renderContext.starfield(world.getSeed()), game.assets);
+        profilerOverlay = new ProfilerOverlay(profiler, world.getProfiler());
+        profilerOverlay.setGlProfiler(game.renderContext.glProfiler);
+        profilerOverlay.setSfxScheduler(game.assets.sfxScheduler);
+        profilerOverlay.setRenderQueue(queue);
+        profilerOverlay.setExplosions(renderer.getExplosions());
+        profilerOverlay.setQuality(quality);
+        queue.setProfiler(profiler);
+        // Replayed on this thread from each new snapshot
+        events = new WorldEvents() {
+            @Override public void onSound(SoundCue cue, float volume) { game.assets.play(cue, volume); }
+            @Override public void onExplosion(float cx, float cy, float frameDuration, float scale) { renderer.spawnExplosion(cx, cy, frameDuration, scale); }
+            @Override public void onBigExplosion(float cx, float cy) { renderer.spawnBigExplosion(cx, cy); }
+            @Override public void onShake(float time, float strength) { renderer.shake(time, strength); }
+            @Override public void onFlash(float time) { renderer.flash(time); }
+            @Override public void onGameOver(int score) {
+                if (replaying) return;
+                game.maybeSetHighScore(score);
+                saveReplay(); // the world stops ticking once it is over
+            }
+        };
+        loop = new SimulationLoop(world, clock, game.simDriver);
+    }
+
+    /** Keeps the last finished session on disk so it can be replayed from the menu (R). */
+    private void saveReplay() {
+        try {
+            Gdx.files.local(REPLAY_FILE).writeBytes(world.getRecorder().toBytes(), false);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("GameScreen", "Could not save replay", e);
+        }
     }
 
     @Override public void show() {
         game.assets.playGameMusic();
         // Build UI once
-        if (skin == null) skin = UiFactory.createBasicSkin();
+        if (skin == null) skin = game.renderContext.skin();
         if (pauseStage == null) buildPauseStage();
         if (overStage == null)  buildOverStage();
         // Ensure gameplay has input focus initially
         Gdx.input.setInputProcessor(null);
+        loop.start();
     }
 
     private void buildPauseStage() {
-        pauseStage = new Stage(viewport);
+        pauseStage = new Stage(viewport, batch);
         Table root = new Table(); root.setFillParent(true); pauseStage.addActor(root);
 
         TextButton resume = UiFactory.button(skin, "Resume");
@@ -84,13 +225,13 @@ public class GameScreen implements Screen {
     }
 
     private void buildOverStage() {
-        overStage = new Stage(viewport);
+        overStage = new Stage(viewport, batch);
         Table root = new Table(); root.setFillParent(true); overStage.addActor(root);
 
         TextButton retry = UiFactory.button(skin, "Retry");
         TextButton menu  = UiFactory.button(skin, "Main Menu");
 
-        retry.addListener(new ClickListener(){ @Override public void clicked(InputEvent e, float x,float y){ game.setScreen(new GameScreen(game)); } });
+        retry.addListener(new ClickListener(){ @Override public void clicked(InputEvent e, float x,float y){ retry(); } });
         menu.addListener(new ClickListener(){ @Override public void clicked(InputEvent e, float x,float y){ game.setScreen(new MenuScreen(game)); } });
 
         root.center().pad(20);
@@ -98,24 +239,55 @@ public class GameScreen implements Screen {
         root.add(menu).width(240).height(56).pad(6);
     }
 
+    /** A fresh live session. Played live, this screen, its world and everything they hold are reused (see restart). */
+    void retry() {
+        if (!replaying) { restart(); return; }
+        // A replay's clock runs at the log's step: a new screen, but on the same world, so stop ticking it first
+        loop.stop();
+        game.setScreen(new GameScreen(game));
+    }
+
+    /** Resets the world to a new seed in place: the sim thread is stopped meanwhile, so nothing ticks a half-reset world. */
+    private void restart() {
+        loop.stop();
+        world.reset(MathUtils.random.nextLong());
+        world.startRecording(loop.getStep());
+        loop.restart();
+        game.renderContext.starfield(world.getSeed());
+        renderer.reset();
+        paused = false;
+        gameOver = false;
+        frozenValid = false;
+        Gdx.input.setInputProcessor(null);
+        loop.start();
+    }
+
     @Override public void render(float delta) {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) { profilerOverlay.toggle(); frozenValid = false; }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) profilerOverlay.dump();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) { renderer.getExplosions().toggleStress(); frozenValid = false; }
+        long frameStart = TimeUtils.nanoTime();
+        profiler.begin(PHASE_FRAME);
         handleInputPauseMenu(); // keys & pause icon
 
         // Touch controls only when actively playing
-        if (!paused && !gameOver) {
-            controls.updateFromInput(viewport);
-            world.getPlayer().setExternalMoveAxis(controls.getMoveAxis());
-            world.getPlayer().setExternalFire(controls.isFiring());
-        } else {
-            world.getPlayer().setExternalMoveAxis(0f);
-            world.getPlayer().setExternalFire(false);
-        }
-
-        // Freeze on pause or game over
-        float dt = (!paused && !gameOver) ? delta * world.getTimeScale() : 0f;
-
-        world.update(dt);
-        boolean newGameOver = world.isGameOver();
+        if (!paused && !gameOver) controls.updateFromInput(viewport);
+        input.setEnabled(!paused && !gameOver);
+        latchedInput.latch(input.moveAxis(), input.fire());
+
+        // Fixed-step simulation (inline, or already running on the sim thread), frozen on pause or game over;
+        // rendering draws the newest snapshot, interpolated within its last step
+        loop.setRunning(!paused && !gameOver);
+        profiler.begin(PHASE_SIM);
+        loop.frame(delta);
+        RenderSnapshot snap = loop.acquire(events);
+        profiler.end(PHASE_SIM);
+        renderer.setSnapshot(snap);
+        float dt = (!paused && !gameOver) ? delta * snap.timeScale : 0f;
+        game.assets.sfxScheduler.update(delta);
+        float alpha = loop.alpha(snap);
+        renderer.update(dt);
+        boolean newGameOver = snap.gameOver;
         if (!gameOver && newGameOver) {
             gameOver = true;
             Gdx.input.setInputProcessor(overStage);
@@ -123,67 +295,82 @@ public class GameScreen implements Screen {
             gameOver = newGameOver;
         }
 
+        // Paused or game over the picture is still: render on demand (input, UI animation) from a cached playfield
+        boolean frozen = paused || gameOver;
+        if (!frozen) frozenValid = false;
+        game.renderPolicy.setIdle(frozen);
+
         // Camera & clear
-        world.applyCameraShake(cam, delta);
+        if (frozen) cam.position.set(Constants.W/2f, Constants.H/2f, 0);
+        else renderer.applyCameraShake(cam, delta);
         viewport.apply();
         Gdx.gl.glClearColor(0.02f,0.02f,0.05f,1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         cam.update();
 
-        // Background
-        world.getStarfield().render(shapes, dt, cam.combined);
+        // Dim + UI stages
+        activeStage = paused ? pauseStage : (gameOver ? overStage : null);
+        dimAlpha = paused ? 0.5f : 0.55f;
+        if (activeStage != null) {
+            activeStage.act(delta);
+            game.renderPolicy.keepAlive(activeStage);
+        }
 
-        // Sprites
-        batch.setProjectionMatrix(cam.combined);
-        batch.begin();
-        world.renderSprites(batch);
-        batch.end();
+        // Submit the frame in painter's order by layer; the queue merges it into as few passes as it can
+        frameAlpha = alpha;
+        frameDelta = delta;
+        if (frozen) {
+            if (!frozenValid) cacheFrozenPlayfield();
+            queue.submit(RenderQueue.LAYER_BACKGROUND, RenderQueue.Material.SPRITE, PHASE_PLAYFIELD, frozenCmd);
+        } else submitPlayfield();
+        // On-screen joystick (hidden when paused or game over), pause icon always
+        if (showTouchUi && !paused && !gameOver) queue.submit(RenderQueue.LAYER_CONTROLS, RenderQueue.Material.SPRITE, PHASE_TOUCH_UI, joystickCmd);
+        queue.submit(RenderQueue.LAYER_CONTROLS, RenderQueue.Material.SPRITE, PHASE_TOUCH_UI, pauseButtonCmd);
+        if (activeStage != null) {
+            queue.submit(RenderQueue.LAYER_OVERLAY, RenderQueue.Material.SPRITE, PHASE_STAGES, dimCmd);
+            queue.submit(RenderQueue.LAYER_UI, RenderQueue.Material.CUSTOM, PHASE_STAGES, stageCmd);
+        }
+        if (!frozen) queue.submit(RenderQueue.LAYER_HUD, RenderQueue.Material.SPRITE, PHASE_HUD, hudCmd);
 
-        // Shapes: bullets, powerups, shield
-        Gdx.gl.glEnable(GL20.GL_BLEND);
+        batch.setProjectionMatrix(cam.combined);
         shapes.setProjectionMatrix(cam.combined);
-        shapes.begin(ShapeRenderer.ShapeType.Filled);
-
-        shapes.setColor(Color.LIME);
-        for (com.rgs.galaxyinvaders.entities.Bullet b : world.getPlayerBullets()) shapes.circle(b.cx(), b.cy(), b.radius(), 16);
-
-        shapes.setColor(Color.RED);
-        for (com.rgs.galaxyinvaders.entities.Bullet b : world.getEnemyBullets()) shapes.circle(b.cx(), b.cy(), b.radius(), 16);
-
-        for (PowerUp p : world.getPowerUps()) p.render(shapes);
-
-        world.renderShield(shapes);
-        shapes.end();
-
-        // Flash overlay (freezes with dt=0)
-        world.renderFlash(shapes, dt);
+        queue.flush(batch, shapes);
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+        profilerOverlay.endFrame();
+        profiler.end(PHASE_FRAME);
 
-        // On-screen joystick (hidden when paused or game over)
-        if (showTouchUi && !paused && !gameOver) {
-            Gdx.gl.glEnable(GL20.GL_BLEND);
-            controls.render(shapes);
+        // On-demand frames are seconds apart; they say nothing about the device's headroom
+        if (!frozen && quality.sample(delta, (TimeUtils.nanoTime() - frameStart) * MathUtils.nanoToSec)) {
+            renderer.setQuality(quality.getTier());
+            Gdx.app.log("Quality", "Tier " + quality.getTier());
         }
+    }
 
-        // Pause icon (always visible during play & pause; optional during game over)
-        drawPauseButton();
+    private void submitPlayfield() {
+        queue.submit(RenderQueue.LAYER_BACKGROUND, RenderQueue.Material.CUSTOM, PHASE_STARFIELD, starfieldCmd);
+        queue.submit(RenderQueue.LAYER_PLAYFIELD, RenderQueue.Material.SPRITE, PHASE_PLAYFIELD, playfieldCmd);
+        if (renderer.isFlashing()) queue.submit(RenderQueue.LAYER_FX, RenderQueue.Material.SPRITE, PHASE_FLASH, flashCmd); // freezes with dt=0
+    }
 
-        // Dim + UI stages
-        if (paused) {
-            drawDimOverlay(0.5f);
-            pauseStage.act(delta);
-            pauseStage.draw();
-        } else if (gameOver) {
-            drawDimOverlay(0.55f);
-            overStage.act(delta);
-            overStage.draw();
+    /** Draws the playfield and HUD once into the frame cache, at the viewport's pixel size so the blit is 1:1. */
+    private void cacheFrozenPlayfield() {
+        FrameBuffer fbo = game.renderContext.frameCache(Math.max(1, viewport.getScreenWidth()), Math.max(1, viewport.getScreenHeight()));
+        if (fbo != frozenFbo) {
+            frozenFbo = fbo;
+            frozenRegion = new TextureRegion(frozenFbo.getColorBufferTexture());
+            frozenRegion.flip(false, true);
         }
-
-        Gdx.gl.glDisable(GL20.GL_BLEND);
-
-        // HUD (you already draw score/lives in world.renderHud)
-        batch.begin();
-        world.renderHud(batch, font);
-        batch.end();
+        frozenFbo.begin();
+        Gdx.gl.glClearColor(0.02f,0.02f,0.05f,1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        submitPlayfield();
+        queue.submit(RenderQueue.LAYER_HUD, RenderQueue.Material.SPRITE, PHASE_HUD, hudCmd);
+        batch.setProjectionMatrix(cam.combined);
+        shapes.setProjectionMatrix(cam.combined);
+        queue.flush(batch, shapes);
+        frozenFbo.end();
+        viewport.apply(); // end() restored the full back buffer viewport
+        frozenValid = true;
     }
 
     private void handleInputPauseMenu() {
@@ -224,44 +411,48 @@ public class GameScreen implements Screen {
         return false;
     }
 
-    private void drawPauseButton() {
-        shapes.setProjectionMatrix(cam.combined);
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        shapes.begin(ShapeRenderer.ShapeType.Filled);
-        shapes.setColor(0.15f, 0.15f, 0.2f, paused ? 0.9f : 0.55f);
-        shapes.circle(pauseCenter.x, pauseCenter.y, pauseRadius + 4f, 28);
-        shapes.setColor(0.25f, 0.25f, 0.35f, paused ? 0.95f : 0.75f);
-        shapes.circle(pauseCenter.x, pauseCenter.y, pauseRadius, 28);
+    private void drawPauseButton(SpriteBatch sb) {
+        TextureRegion dot = game.assets.dot, white = game.assets.white1x1;
+        float r = pauseRadius + 4f;
+        sb.setColor(0.15f, 0.15f, 0.2f, paused ? 0.9f : 0.55f);
+        sb.draw(dot, pauseCenter.x - r, pauseCenter.y - r, r * 2f, r * 2f);
+        r = pauseRadius;
+        sb.setColor(0.25f, 0.25f, 0.35f, paused ? 0.95f : 0.75f);
+        sb.draw(dot, pauseCenter.x - r, pauseCenter.y - r, r * 2f, r * 2f);
         // pause bars
-        shapes.setColor(Color.WHITE);
+        sb.setColor(Color.WHITE);
         float barW = 4f, barH = 14f, gap = 6f;
-        shapes.rect(pauseCenter.x - gap - barW, pauseCenter.y - barH/2f, barW, barH);
-        shapes.rect(pauseCenter.x + gap,        pauseCenter.y - barH/2f, barW, barH);
-        shapes.end();
+        sb.draw(white, pauseCenter.x - gap - barW, pauseCenter.y - barH/2f, barW, barH);
+        sb.draw(white, pauseCenter.x + gap,        pauseCenter.y - barH/2f, barW, barH);
     }
 
-    private void drawDimOverlay(float alpha) {
-        shapes.setProjectionMatrix(cam.combined);
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        shapes.begin(ShapeRenderer.ShapeType.Filled);
-        shapes.setColor(0f, 0f, 0f, alpha);
-        shapes.rect(0, 0, Constants.W, Constants.H);
-        shapes.end();
+    private void drawDimOverlay(SpriteBatch sb, float alpha) {
+        sb.setColor(0f, 0f, 0f, alpha);
+        sb.draw(game.assets.white1x1, 0, 0, Constants.W, Constants.H);
+        sb.setColor(Color.WHITE);
     }
 
     @Override public void resize(int width, int height) {
         viewport.update(width, height, true);
         if (pauseStage != null) pauseStage.getViewport().update(width, height, true);
         if (overStage  != null) overStage.getViewport().update(width, height, true);
+        frozenValid = false;
+        game.renderPolicy.requestFrame();
     }
 
-    @Override public void pause() {}
-    @Override public void resume() {}
-    @Override public void hide() {}
+    /** Backgrounded: render() stops being called, so stop the world here or a sim thread would play on unseen. */
+    @Override public void pause() {
+        if (gameOver || paused) return;
+        paused = true;
+        loop.setRunning(false);
+        Gdx.input.setInputProcessor(pauseStage);
+    }
+    @Override public void resume() { frozenValid = false; } // the GL context may have been rebuilt
+    @Override public void hide() { loop.stop(); }
+    /** Called by the game once this screen has been replaced; the shared GL resources stay with the RenderContext. */
     @Override public void dispose() {
-        batch.dispose(); shapes.dispose(); font.dispose();
+        game.renderContext.glProfiler.disable(); // left on by F3, it would keep wrapping every GL call on the menu
         if (pauseStage!=null) pauseStage.dispose();
         if (overStage!=null)  overStage.dispose();
-        if (skin!=null) skin.dispose();
     }
 }
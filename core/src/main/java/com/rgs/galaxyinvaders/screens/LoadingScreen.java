@@ -0,0 +1,61 @@
+package com.rgs.galaxyinvaders.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import com.rgs.galaxyinvaders.GalaxyInvadersGame;
+import com.rgs.galaxyinvaders.config.Constants;
+
+/**
+ * Progress bar while {@link com.rgs.galaxyinvaders.assets.Assets} loads (the game drives the loading itself,
+ * a few milliseconds per frame). Hands over to {@code onReady} as soon as the menu stage is in, or the
+ * gameplay stage too when {@code needGameplay} is set. Needs no assets of its own and draws with the shared shapes.
+ */
+public class LoadingScreen implements Screen {
+    private final GalaxyInvadersGame game;
+    private final boolean needGameplay;
+    private final Runnable onReady;
+    private final OrthographicCamera cam = new OrthographicCamera();
+    private final Viewport viewport = new FitViewport(Constants.W, Constants.H, cam);
+    private float shown = 0f; // eased bar fill
+
+    public LoadingScreen(GalaxyInvadersGame game, boolean needGameplay, Runnable onReady) {
+        this.game = game;
+        this.needGameplay = needGameplay;
+        this.onReady = onReady;
+    }
+
+    @Override public void show() {
+        cam.position.set(Constants.W/2f, Constants.H/2f, 0);
+        viewport.apply(true);
+    }
+
+    @Override public void render(float delta) {
+        if (needGameplay ? game.assets.isGameplayReady() : game.assets.isMenuReady()) { onReady.run(); return; }
+
+        shown += (game.assets.getProgress() - shown) * Math.min(1f, delta * 10f);
+
+        Gdx.gl.glClearColor(0.02f, 0.02f, 0.05f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        viewport.apply();
+        ShapeRenderer shapes = game.renderContext.shapes;
+        shapes.setProjectionMatrix(cam.combined);
+        float barW = 320f, barH = 10f, x = (Constants.W - barW) / 2f, y = Constants.H / 2f - barH / 2f;
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0.15f, 0.15f, 0.2f, 1f);
+        shapes.rect(x, y, barW, barH);
+        shapes.setColor(0.3f, 1f, 0.4f, 1f);
+        shapes.rect(x, y, barW * shown, barH);
+        shapes.end();
+    }
+
+    @Override public void resize(int width, int height) { viewport.update(width, height, true); }
+    @Override public void pause() {}
+    @Override public void resume() {}
+    @Override public void hide() {}
+    @Override public void dispose() {}
+}
@@ -28,9 +28,10 @@ public class MenuScreen implements Screen {
     private final Viewport viewport = new FitViewport(Constants.W, Constants.H, cam);
 
     private Stage stage;
-    private Skin skin;
+    private Skin skin; // shared, owned by the RenderContext
     private Label highScoreLabel;
     private CheckBox muteCb;
+    private CheckBox bulletHellCb;
 
     public MenuScreen(GalaxyInvadersGame game) { this.game = game; }
 
@@ -39,8 +40,8 @@ public class MenuScreen implements Screen {
         cam.position.set(Constants.W/2f, Constants.H/2f, 0);
         viewport.apply(true);
 
-        skin = UiFactory.createBasicSkin();
-        stage = new Stage(viewport);
+        skin = game.renderContext.skin();
+        stage = new Stage(viewport, game.renderContext.batch);
         Gdx.input.setInputProcessor(stage);
 
         // Root layout near top
@@ -66,10 +67,15 @@ public class MenuScreen implements Screen {
         muteCb.clearChildren();                 // re-order children
         muteCb.add(muteCb.getLabel()).padRight(12f).left();
         muteCb.add(muteCb.getImage()).size(24f, 24f).right();
+        bulletHellCb = UiFactory.checkbox(skin, "Bullet hell", game.isBulletHell());
+        bulletHellCb.getLabel().setFontScale(1.15f);
+        bulletHellCb.clearChildren();
+        bulletHellCb.add(bulletHellCb.getLabel()).padRight(12f).left();
+        bulletHellCb.add(bulletHellCb.getImage()).size(24f, 24f).right();
 
         startBtn.addListener(new ClickListener() {
             @Override public void clicked(InputEvent event, float x, float y) {
-                game.setScreen(new GameScreen(game));
+                startGame(null);
             }
         });
         quitBtn.addListener(new ClickListener() {
@@ -82,13 +88,19 @@ public class MenuScreen implements Screen {
                 game.setMuted(muteCb.isChecked());
             }
         });
+        bulletHellCb.addListener(new ChangeListener() {
+            @Override public void changed(ChangeEvent event, Actor actor) {
+                game.setBulletHell(bulletHellCb.isChecked());
+            }
+        });
 
         // Layout
         root.add(title).width(Constants.W).padBottom(8).row();
         root.add(highScoreLabel).width(Constants.W).padBottom(28).row();
         root.add(startBtn).width(240).height(56).padBottom(14).row();
         root.add(quitBtn).width(240).height(56).padBottom(14).row();    // Quit
-        root.add(muteCb).width(240).height(52);  // transparent background checkbox
+        root.add(muteCb).width(240).height(52).row();  // transparent background checkbox
+        root.add(bulletHellCb).width(240).height(52);  // 10k+ bullet boss fights, ship can't die (stress tier)
 
         game.assets.playMenuMusic();
         // reflect current mute state on music right away
@@ -99,9 +111,12 @@ public class MenuScreen implements Screen {
     public void render(float delta) {
         // Keyboard shortcuts still work
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER) || Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            game.setScreen(new GameScreen(game)); return;
+            startGame(null); return;
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) { Gdx.app.exit(); return; }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.R) && Gdx.files.local(GameScreen.REPLAY_FILE).exists()) {
+            startGame(Gdx.files.local(GameScreen.REPLAY_FILE).readBytes()); return;
+        }
 
         // Keep labels fresh
         highScoreLabel.setText("High Score: " + game.getHighScore());
@@ -113,11 +128,24 @@ public class MenuScreen implements Screen {
 
         stage.act(delta);
         stage.draw();
+        game.markInteractive();
+
+        // A static menu only redraws for input or UI animation, once nothing is left to stream in
+        game.renderPolicy.setIdle(game.assets.isGameplayReady());
+        game.renderPolicy.keepAlive(stage);
+    }
+
+    /** Straight into the game, or via the loading bar if gameplay assets are still streaming. */
+    private void startGame(final byte[] replay) {
+        if (game.assets.isGameplayReady()) { game.setScreen(new GameScreen(game, replay)); return; }
+        game.setScreen(new LoadingScreen(game, true, new Runnable() {
+            @Override public void run() { game.setScreen(new GameScreen(game, replay)); }
+        }));
     }
 
     @Override public void resize(int width, int height) { viewport.update(width, height, true); }
     @Override public void pause() {}
     @Override public void resume() {}
     @Override public void hide() {}
-    @Override public void dispose() { if (stage!=null) stage.dispose(); if (skin!=null) skin.dispose(); }
+    @Override public void dispose() { if (stage!=null) stage.dispose(); }
 }
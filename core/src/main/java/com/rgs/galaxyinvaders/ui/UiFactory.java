@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.NinePatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -15,10 +16,40 @@ import com.badlogic.gdx.scenes.scene2d.ui.CheckBox.CheckBoxStyle;
 import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.rgs.galaxyinvaders.assets.Assets;
 
 public final class UiFactory {
     private UiFactory() {}
 
+    /** Skin from the packed atlas (shares the atlas font and page); builds its own textures if there is no atlas. */
+    public static Skin createBasicSkin(Assets assets) {
+        if (assets.atlas == null) return createBasicSkin();
+        TextureAtlas a = assets.atlas;
+        Skin skin = new Skin();
+        BitmapFont font = assets.font; // owned by Assets, so not added to the skin (the skin would dispose it)
+
+        TextButtonStyle tbs = new TextButtonStyle();
+        tbs.font = font;
+        tbs.fontColor = Color.WHITE;
+        tbs.up   = new NinePatchDrawable(new NinePatch(a.findRegion("ui/button-up"),   8, 8, 8, 8));
+        tbs.over = new NinePatchDrawable(new NinePatch(a.findRegion("ui/button-over"), 8, 8, 8, 8));
+        tbs.down = new NinePatchDrawable(new NinePatch(a.findRegion("ui/button-down"), 8, 8, 8, 8));
+        skin.add("default", tbs);
+
+        Label.LabelStyle ls = new Label.LabelStyle();
+        ls.font = font;
+        ls.fontColor = Color.WHITE;
+        skin.add("default", ls);
+
+        CheckBoxStyle cbs = new CheckBoxStyle();
+        cbs.checkboxOff = new TextureRegionDrawable(a.findRegion("ui/checkbox-off"));
+        cbs.checkboxOn  = new TextureRegionDrawable(a.findRegion("ui/checkbox-on"));
+        cbs.font = font;
+        cbs.fontColor = Color.WHITE;
+        skin.add("default", cbs);
+        return skin;
+    }
+
     public static Skin createBasicSkin() {
         Skin skin = new Skin();
 
@@ -0,0 +1,81 @@
+package com.rgs.galaxyinvaders.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.rgs.galaxyinvaders.assets.Assets;
+
+/** The explosion pool: never past its cap, oldest recycled first, no allocation once warm, everything back on clear. */
+public class ExplosionSystemTest {
+    private static final float FRAME = 1f / 60f;
+
+    /** Three 8-frame variants (the regions are never drawn here, so they need no texture). */
+    private static ExplosionSystem system() {
+        Array<Assets.ExplosionSeq> seqs = new Array<>();
+        for (int v = 0; v < 3; v++) {
+            Assets.ExplosionSeq seq = new Assets.ExplosionSeq();
+            for (int f = 0; f < 8; f++) seq.frames.add(new TextureRegion());
+            seqs.add(seq);
+        }
+        return new ExplosionSystem(seqs);
+    }
+
+    @Test
+    public void burstsPastTheCapRecycleTheOldest() {
+        ExplosionSystem fx = system();
+        for (int i = 0; i < ExplosionSystem.MAX_LIVE + 40; i++) fx.spawn(i, 0f, 0f, 1f);
+        assertEquals(ExplosionSystem.MAX_LIVE, fx.getLive());
+        assertEquals(40, fx.getRecycled());
+        assertEquals("pool only ever handed out MAX_LIVE", ExplosionSystem.MAX_LIVE, fx.getPool().getPeakLive());
+        assertEquals(ExplosionSystem.MAX_LIVE, fx.getPool().getMisses());
+
+        fx.setCap(24);
+        assertEquals(24, fx.getLive());
+        assertEquals(24, fx.getPool().getLive());
+        fx.spawn(0f, 0f, 0f, 1f);
+        assertEquals(24, fx.getLive());
+
+        fx.setCap(0); // clamped: at least one effect may live
+        assertEquals(1, fx.getCap());
+        fx.setCap(10000);
+        assertEquals(ExplosionSystem.MAX_LIVE, fx.getCap());
+    }
+
+    @Test
+    public void stressStopsMissingOnceWarm() {
+        ExplosionSystem fx = system();
+        fx.toggleStress();
+        for (int f = 0; f < 600; f++) fx.update(FRAME); // 10 s at 400 spawns per second
+        long misses = fx.getPool().getMisses();
+        long spawned = fx.getSpawned();
+        for (int f = 0; f < 3600; f++) {
+            fx.update(FRAME);
+            assertTrue("live " + fx.getLive(), fx.getLive() <= ExplosionSystem.MAX_LIVE);
+        }
+        assertTrue("kept spawning", fx.getSpawned() - spawned > 20000);
+        assertEquals("no new explosions constructed", misses, fx.getPool().getMisses());
+        assertTrue(misses <= ExplosionSystem.MAX_LIVE);
+        assertEquals(0, fx.getPool().getDiscarded());
+    }
+
+    @Test
+    public void finishedAndClearedEffectsReturnToThePool() {
+        ExplosionSystem fx = system();
+        for (int i = 0; i < 30; i++) fx.spawn(0f, 0f, 0.05f, 1f);
+        fx.spawnBig(0f, 0f); // slower: 8 x 0.06 s
+        for (int f = 0; f < 27; f++) fx.update(FRAME); // 0.45 s: the small ones (0.4 s) are done
+        assertEquals(1, fx.getLive());
+        assertEquals(1, fx.getPool().getLive());
+
+        for (int i = 0; i < 50; i++) fx.spawn(0f, 0f, 0f, 1f);
+        fx.clear();
+        assertEquals(0, fx.getLive());
+        assertEquals(0, fx.getPool().getLive());
+        assertEquals(fx.getPool().getObtained(), fx.getPool().getFreed());
+        assertEquals(51, fx.getPool().getMisses()); // 31 then 20 more on top of the 30 returned
+    }
+}
@@ -0,0 +1,48 @@
+package com.rgs.galaxyinvaders.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+
+/**
+ * HUD frames must not allocate, whether the numbers hold still or change every frame. A first pass over the same
+ * value range grows the line buffers, glyph layouts and font cache to their peak; the measured pass must then add
+ * nothing (same ThreadMXBean accounting as the simulation's GameWorldAllocationTest).
+ */
+public class HudAllocationTest {
+    private static final int FRAMES = 10000;
+
+    @Test
+    public void hudFramesAllocateNothing() {
+        BitmapFont font = NullGraphics.font();
+        NullGraphics.CountingBatch batch = new NullGraphics.CountingBatch();
+        Hud hud = new Hud();
+        frames(hud, batch, font);
+
+        long calibration = -allocatedBytes() + allocatedBytes(); // the probe's own cost
+        long before = allocatedBytes();
+        frames(hud, batch, font);
+        long allocated = allocatedBytes() - before - calibration;
+
+        assertTrue("glyphs reached the batch", batch.quads > FRAMES * 3L);
+        assertEquals("bytes allocated over " + FRAMES + " HUD frames", 0L, allocated);
+    }
+
+    /** Score climbs every frame (a re-layout each time), lives and wave change now and then, bosses occasionally. */
+    private static void frames(Hud hud, NullGraphics.CountingBatch batch, BitmapFont font) {
+        batch.begin();
+        for (int f = 0; f < FRAMES; f++) {
+            hud.render(batch, font, 900000 + f * 7, 3 - (f / 2500) % 3, 1 + f / 600, f / 3000);
+        }
+        batch.end();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,231 @@
+package com.rgs.galaxyinvaders.render;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.mock.audio.MockAudio;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+/**
+ * Just enough of a GL backend to run presentation code on a plain JVM: a GL that draws nothing but hands out object
+ * names and counts the live ones, a font with a fixed-width glyph per printable ASCII character on an 8x8 texture
+ * with no pixels, and a batch that only counts what it is given. Good for allocation, layout and leak tests, not for
+ * pictures.
+ */
+public final class NullGraphics {
+    public static final int WIDTH = 1280, HEIGHT = 720;
+    private static final Map<String, Integer> live = new HashMap<>();
+    private static int nextName = 1;
+    private static GL20 gl;
+
+    private NullGraphics() {}
+
+    /**
+     * Installs the GL below, a {@link #WIDTH} x {@link #HEIGHT} Graphics, an Application, Input and Preferences that do
+     * nothing, headless files and audio from the headless backend, and the native libraries (Pixmap, buffers).
+     */
+    public static synchronized void install() {
+        if (gl != null) return;
+        GdxNativesLoader.load();
+        gl = gl();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+        Gdx.graphics = graphics();
+        Gdx.app = nothing(Application.class, new Answer() {
+            @Override public Object answer(Object proxy, String name, Object[] args) {
+                if (name.equals("getType")) return Application.ApplicationType.HeadlessDesktop;
+                if (name.equals("getPreferences")) return nothing(Preferences.class, null);
+                return NO_ANSWER;
+            }
+        });
+        Gdx.input = nothing(Input.class, null);
+        Gdx.files = new HeadlessFiles();
+        Gdx.audio = new MockAudio();
+    }
+
+    /**
+     * GL objects of one kind created and not yet deleted since {@link #install()}: "Texture", "Buffer",
+     * "Framebuffer", "Renderbuffer", "Shader" or "Program".
+     */
+    public static synchronized int live(String kind) {
+        Integer n = live.get(kind);
+        return n == null ? 0 : n;
+    }
+
+    /** The GL {@link #install()} put in place, to tell it from a wrapper such as an enabled GLProfiler. */
+    public static GL20 baseGl() { return gl; }
+
+    /**
+     * Every call does nothing and returns 0 / false / null, except: glGenX() and glCreateX() hand out fresh names,
+     * glDeleteX() retires them (see {@link #live}), shaders compile, programs link and framebuffers are complete.
+     */
+    private static GL20 gl() {
+        return nothing(GL20.class, new Answer() {
+            @Override public Object answer(Object proxy, String name, Object[] args) {
+                synchronized (NullGraphics.class) {
+                    if (name.startsWith("glGen") && args == null || name.startsWith("glCreate")) {
+                        count(name.substring(name.startsWith("glGen") ? 5 : 8), 1);
+                        return nextName++;
+                    }
+                    if (name.startsWith("glDelete") && args != null && args.length == 1 && args[0] instanceof Integer) {
+                        if ((Integer) args[0] != 0) count(name.substring(8), -1);
+                        return null;
+                    }
+                }
+                if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+                    int pname = (Integer) args[1];
+                    ((IntBuffer) args[2]).put(0, pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS ? 1 : 0);
+                    return null;
+                }
+                if (name.equals("glCheckFramebufferStatus")) return GL20.GL_FRAMEBUFFER_COMPLETE;
+                return NO_ANSWER;
+            }
+        });
+    }
+
+    private static void count(String kind, int delta) { live.put(kind, live(kind) + delta); }
+
+    /** A fixed-size window at 60 fps; setGL20 swaps the installed GL the way desktop backends do (GLProfiler relies on it). */
+    private static Graphics graphics() {
+        return nothing(Graphics.class, new Answer() {
+            @Override public Object answer(Object proxy, String name, Object[] args) {
+                if (name.equals("getWidth") || name.equals("getBackBufferWidth")) return WIDTH;
+                if (name.equals("getHeight") || name.equals("getBackBufferHeight")) return HEIGHT;
+                if (name.equals("getDeltaTime")) return 1f / 60f;
+                if (name.equals("getGL20")) return Gdx.gl20;
+                if (name.equals("setGL20")) { Gdx.gl = Gdx.gl20 = (GL20) args[0]; return null; }
+                return NO_ANSWER;
+            }
+        });
+    }
+
+    private interface Answer {
+        /** The call's result, or {@link #NO_ANSWER} for the do-nothing default. */
+        Object answer(Object proxy, String name, Object[] args);
+    }
+
+    private static final Object NO_ANSWER = new Object();
+
+    private static <T> T nothing(final Class<T> type, final Answer answer) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new InvocationHandler() {
+            @Override public Object invoke(Object proxy, Method method, Object[] args) {
+                String name = method.getName();
+                // Identity semantics, so proxies work as map keys (libGDX keys managed textures by Gdx.app)
+                if (name.equals("hashCode") && args == null) return System.identityHashCode(proxy);
+                if (name.equals("equals") && args != null && args.length == 1) return proxy == args[0];
+                if (name.equals("toString") && args == null) return type.getSimpleName() + "@null";
+                if (answer != null) {
+                    Object a = answer.answer(proxy, name, args);
+                    if (a != NO_ANSWER) return a;
+                }
+                Class<?> r = method.getReturnType();
+                if (r == boolean.class) return false;
+                if (r == int.class) return 0;
+                if (r == float.class) return 0f;
+                if (r == long.class) return 0L;
+                if (r == double.class) return 0d;
+                return null;
+            }
+        }));
+    }
+
+    public static BitmapFont font() {
+        install();
+        BitmapFont.BitmapFontData data = new BitmapFont.BitmapFontData();
+        data.lineHeight = 14f;
+        data.capHeight = 10f;
+        data.ascent = 2f;
+        data.down = -14f;
+        data.spaceXadvance = 8f;
+        for (char c = 33; c < 127; c++) {
+            BitmapFont.Glyph g = new BitmapFont.Glyph();
+            g.id = c;
+            g.width = 7;
+            g.height = 10;
+            g.xadvance = 8;
+            data.setGlyph(c, g);
+        }
+        return new BitmapFont(data, new TextureRegion(new Texture(new EmptyTextureData())), false);
+    }
+
+    private static final class EmptyTextureData implements TextureData {
+        @Override public TextureDataType getType() { return TextureDataType.Custom; }
+        @Override public boolean isPrepared() { return true; }
+        @Override public void prepare() {}
+        @Override public Pixmap consumePixmap() { return null; }
+        @Override public boolean disposePixmap() { return false; }
+        @Override public void consumeCustomData(int target) {}
+        @Override public int getWidth() { return 8; }
+        @Override public int getHeight() { return 8; }
+        @Override public Pixmap.Format getFormat() { return Pixmap.Format.RGBA8888; }
+        @Override public boolean useMipMaps() { return false; }
+        @Override public boolean isManaged() { return false; }
+    }
+
+    /** Draws nothing; counts the sprites (quads) it was handed. */
+    static final class CountingBatch implements Batch {
+        final Color color = new Color(Color.WHITE);
+        final Matrix4 projection = new Matrix4(), transform = new Matrix4();
+        long quads;
+        boolean drawing;
+
+        @Override public void begin() { drawing = true; }
+        @Override public void end() { drawing = false; }
+        @Override public void setColor(Color tint) { color.set(tint); }
+        @Override public void setColor(float r, float g, float b, float a) { color.set(r, g, b, a); }
+        @Override public Color getColor() { return color; }
+        @Override public void setPackedColor(float packedColor) { Color.abgr8888ToColor(color, packedColor); }
+        @Override public float getPackedColor() { return color.toFloatBits(); }
+        @Override public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) { quads++; }
+        @Override public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) { quads++; }
+        @Override public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) { quads++; }
+        @Override public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) { quads++; }
+        @Override public void draw(Texture texture, float x, float y) { quads++; }
+        @Override public void draw(Texture texture, float x, float y, float width, float height) { quads++; }
+        @Override public void draw(Texture texture, float[] spriteVertices, int offset, int count) { quads += count / 20; } // 4 vertices x (x, y, colour, u, v)
+        @Override public void draw(TextureRegion region, float x, float y) { quads++; }
+        @Override public void draw(TextureRegion region, float x, float y, float width, float height) { quads++; }
+        @Override public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation) { quads++; }
+        @Override public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height, float scaleX, float scaleY, float rotation, boolean clockwise) { quads++; }
+        @Override public void draw(TextureRegion region, float width, float height, Affine2 transform) { quads++; }
+        @Override public void flush() {}
+        @Override public void disableBlending() {}
+        @Override public void enableBlending() {}
+        @Override public void setBlendFunction(int srcFunc, int dstFunc) {}
+        @Override public void setBlendFunctionSeparate(int srcFuncColor, int dstFuncColor, int srcFuncAlpha, int dstFuncAlpha) {}
+        @Override public int getBlendSrcFunc() { return GL20.GL_SRC_ALPHA; }
+        @Override public int getBlendDstFunc() { return GL20.GL_ONE_MINUS_SRC_ALPHA; }
+        @Override public int getBlendSrcFuncAlpha() { return GL20.GL_SRC_ALPHA; }
+        @Override public int getBlendDstFuncAlpha() { return GL20.GL_ONE_MINUS_SRC_ALPHA; }
+        @Override public Matrix4 getProjectionMatrix() { return projection; }
+        @Override public Matrix4 getTransformMatrix() { return transform; }
+        @Override public void setProjectionMatrix(Matrix4 projection) { this.projection.set(projection); }
+        @Override public void setTransformMatrix(Matrix4 transform) { this.transform.set(transform); }
+        @Override public void setShader(ShaderProgram shader) {}
+        @Override public ShaderProgram getShader() { return null; }
+        @Override public boolean isBlendingEnabled() { return true; }
+        @Override public boolean isDrawing() { return drawing; }
+        @Override public void dispose() {}
+    }
+}
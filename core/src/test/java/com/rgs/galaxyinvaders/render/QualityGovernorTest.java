@@ -0,0 +1,106 @@
+package com.rgs.galaxyinvaders.render;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.rgs.galaxyinvaders.render.QualityGovernor.Tier;
+
+/** Tier transitions driven by synthetic frame-time feeds (seconds; the budget is 1/60 s, about 16.7 ms). */
+public class QualityGovernorTest {
+    private static final float BUDGET = QualityGovernor.BUDGET_60HZ;
+    private static final int WINDOW = QualityGovernor.WINDOW;
+    private static final int UP_HOLD = 240, MAX_UP_HOLD = UP_HOLD * 8; // QualityGovernor's hold and its backoff cap
+
+    @Test
+    public void cheapFramesStayOnTop() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        for (int f = 0; f < 10000; f++) assertFalse(governor.sample(BUDGET, 0.004f));
+        assertEquals(Tier.HIGH, governor.getTier());
+        assertEquals(0, governor.getTransitions());
+    }
+
+    @Test
+    public void overBudgetStepsDownOneTierPerWindow() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        for (Tier expected : new Tier[] { Tier.MEDIUM, Tier.LOW, Tier.MINIMAL }) {
+            feed(governor, 0.025f, 0.025f, WINDOW); // a full window first
+            assertTrue(governor.sample(0.025f, 0.025f));
+            assertEquals(expected, governor.getTier());
+        }
+        feed(governor, 0.025f, 0.025f, 5000);
+        assertEquals("nothing below MINIMAL", Tier.MINIMAL, governor.getTier());
+        assertEquals(3, governor.getTransitions());
+    }
+
+    /** Cheap CPU work but frames arriving late: GPU- or fill-bound, and the delta is what counts. */
+    @Test
+    public void missedFramesCountWhole() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        feed(governor, 0.033f, 0.002f, WINDOW);
+        assertTrue(governor.sample(0.033f, 0.002f));
+        assertEquals(Tier.MEDIUM, governor.getTier());
+    }
+
+    @Test
+    public void oneHitchIsNotAStepDown() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        for (int lap = 0; lap < 50; lap++) {
+            feed(governor, BUDGET, 0.010f, WINDOW - 1);
+            governor.sample(0.5f, 0.5f); // a half-second stall weighs four budgets at most
+        }
+        assertEquals(Tier.HIGH, governor.getTier());
+    }
+
+    @Test
+    public void steppingUpWaitsForTheHold() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        feed(governor, 0.025f, 0.025f, WINDOW);
+        assertTrue(governor.sample(0.025f, 0.025f));
+        assertEquals(Tier.MEDIUM, governor.getTier());
+        feed(governor, BUDGET, 0.005f, WINDOW + UP_HOLD - 1);
+        assertTrue(governor.sample(BUDGET, 0.005f));
+        assertEquals(Tier.HIGH, governor.getTier());
+
+        // Between UP and DOWN: no reason to move either way
+        feed(governor, 0.025f, 0.025f, WINDOW);
+        assertTrue(governor.sample(0.025f, 0.025f));
+        assertEquals(Tier.MEDIUM, governor.getTier());
+        feed(governor, BUDGET, 0.013f, 20000);
+        assertEquals(Tier.MEDIUM, governor.getTier());
+    }
+
+    /**
+     * A device that affords MEDIUM with headroom but misses on HIGH: every undone upgrade doubles the next hold up
+     * to the cap, so it spends ever longer on MEDIUM instead of flipping every few seconds.
+     */
+    @Test
+    public void undoneUpgradesBackOff() {
+        QualityGovernor governor = new QualityGovernor(BUDGET);
+        IntArray mediumStays = new IntArray();
+        int stay = 0;
+        for (int f = 0; f < 30000; f++) {
+            float work = governor.getTier() == Tier.HIGH ? 0.020f : 0.008f;
+            if (governor.getTier() == Tier.MEDIUM) stay++;
+            if (governor.sample(BUDGET, work) && governor.getTier() == Tier.HIGH) { mediumStays.add(stay); stay = 0; }
+            assertTrue(governor.getTier() == Tier.HIGH || governor.getTier() == Tier.MEDIUM);
+        }
+        assertEquals(WINDOW + UP_HOLD, mediumStays.first());
+        for (int i = 1; i < mediumStays.size; i++) {
+            int expected = WINDOW + Math.min(MAX_UP_HOLD, UP_HOLD << i);
+            assertEquals("stay " + i, expected, mediumStays.get(i));
+        }
+        // A fixed hold would flip about 160 times in these 30000 frames
+        assertTrue("settled, " + governor.getTransitions() + " transitions", governor.getTransitions() < 40);
+    }
+
+    /** Feeds {@code frames} identical frames, none of which may change the tier. */
+    private static void feed(QualityGovernor governor, float delta, float work, int frames) {
+        for (int f = 0; f < frames; f++) {
+            if (governor.sample(delta, work)) throw new AssertionError("tier changed after " + f + " frames, to " + governor.getTier());
+        }
+    }
+}
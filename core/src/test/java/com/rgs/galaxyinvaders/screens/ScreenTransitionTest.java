@@ -0,0 +1,68 @@
+package com.rgs.galaxyinvaders.screens;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.rgs.galaxyinvaders.GalaxyInvadersGame;
+import com.rgs.galaxyinvaders.render.NullGraphics;
+
+/**
+ * Screen changes must not leak GL objects: the whole game, shipped assets included, runs against the counting GL
+ * of {@link NullGraphics} through a thousand menu → game round trips and a thousand Retries. After a warm-up the
+ * managed textures, shaders and meshes (one per batch, shape renderer or starfield) and the GL's live textures,
+ * buffers, programs and framebuffers must not move.
+ */
+public class ScreenTransitionTest {
+    private static final int SESSIONS = 1000, WARM_UP = 10, FRAMES = 3;
+
+    @Test
+    public void menuRoundTripsAndRetriesKeepGlObjectsFlat() {
+        NullGraphics.install();
+        GalaxyInvadersGame game = new GalaxyInvadersGame();
+        game.create();
+        game.assets.finishLoading();
+        frames(game); // the loading screen hands over to the menu
+        String warm = null;
+        for (int i = 0; i < SESSIONS; i++) {
+            game.setScreen(new MenuScreen(game));
+            frames(game); // disposes the game screen it replaced
+            assertSame("GL profiler left wrapping the GL", NullGraphics.baseGl(), Gdx.gl);
+
+            game.setScreen(new GameScreen(game));
+            frames(game);
+            GameScreen screen = (GameScreen) game.getScreen();
+            game.pause(); // frozen frames draw through the shared frame cache
+            frames(game);
+            screen.retry();
+            if (i % 2 == 0) game.renderContext.glProfiler.enable(); // as F3 does
+            frames(game);
+            assertSame("Retry keeps the screen", screen, game.getScreen());
+
+            if (i == WARM_UP) warm = counts();
+        }
+        assertNotNull(warm);
+        assertEquals("GL objects after " + SESSIONS + " round trips and retries", warm, counts());
+        game.dispose();
+    }
+
+    private static void frames(GalaxyInvadersGame game) {
+        for (int f = 0; f < FRAMES; f++) game.render();
+    }
+
+    private static String counts() {
+        return "managed textures " + Texture.getNumManagedTextures()
+            + ", shaders " + ShaderProgram.getNumManagedShaderPrograms()
+            + ", " + Mesh.getManagedStatus() // no count getter for meshes
+            + "; live GL textures " + NullGraphics.live("Texture")
+            + ", buffers " + NullGraphics.live("Buffer")
+            + ", programs " + NullGraphics.live("Program")
+            + ", framebuffers " + NullGraphics.live("Framebuffer");
+    }
+}
@@ -3,6 +3,11 @@ package com.rgs.galaxyinvaders.lwjgl3;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 import com.rgs.galaxyinvaders.GalaxyInvadersGame;
+import com.rgs.galaxyinvaders.threads.ForkJoinChunkRunner;
+import com.rgs.galaxyinvaders.threads.SimThreadDriver;
+import com.rgs.galaxyinvaders.world.SimDriver;
+
+import java.util.concurrent.ForkJoinPool;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
@@ -12,7 +17,13 @@ public class Lwjgl3Launcher {
         config.setWindowedMode(960, 540);
         config.useVsync(true);
         config.setForegroundFPS(120);
-        new Lwjgl3Application(new GalaxyInvadersGame(), config);
+        // Static screens render on demand; this is how often the idle loop still polls for input.
+        // Losing focus pauses gameplay, which makes it one of those static screens.
+        config.setIdleFPS(10);
+        config.setPauseWhenLostFocus(true);
+        // A single core gains nothing from the sim thread, only handoff cost
+        SimDriver driver = Runtime.getRuntime().availableProcessors() > 1 ? new SimThreadDriver() : SimDriver.INLINE;
+        new Lwjgl3Application(new GalaxyInvadersGame(new ForkJoinChunkRunner(ForkJoinPool.commonPool()), driver), config);
     }
 
     private static Lwjgl3Application createApplication() {
@@ -0,0 +1,60 @@
+package com.rgs.galaxyinvaders.threads;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.rgs.galaxyinvaders.world.ChunkRunner;
+
+/**
+ * Runs a world's chunk jobs on a {@link ForkJoinPool}: chunk 0 on the calling worker, the rest forked.
+ * Tasks are created once and reinitialized every call, so a warm runner allocates nothing per tick.
+ * Not reentrant: one world (or one thread driving worlds) per runner.
+ */
+public class ForkJoinChunkRunner implements ChunkRunner {
+    private final ForkJoinPool pool;
+    private ChunkTask[] tasks = new ChunkTask[0];
+    private final Root root = new Root();
+    private Job job;
+    private int chunks;
+
+    public ForkJoinChunkRunner(ForkJoinPool pool) { this.pool = pool; }
+
+    /** A pool of {@code threads} workers, owned by this runner (see {@link #shutdown()}). */
+    public ForkJoinChunkRunner(int threads) { this(new ForkJoinPool(threads)); }
+
+    @Override
+    public void run(int chunks, Job job) {
+        if (chunks <= 1 || pool.getParallelism() == 1) {
+            for (int c = 0; c < chunks; c++) job.run(c);
+            return;
+        }
+        if (tasks.length < chunks) {
+            ChunkTask[] grown = new ChunkTask[chunks];
+            System.arraycopy(tasks, 0, grown, 0, tasks.length);
+            for (int c = tasks.length; c < chunks; c++) grown[c] = new ChunkTask(c);
+            tasks = grown;
+        }
+        this.job = job;
+        this.chunks = chunks;
+        root.reinitialize();
+        pool.invoke(root);
+        this.job = null;
+    }
+
+    public int getParallelism() { return pool.getParallelism(); }
+    public void shutdown() { pool.shutdown(); }
+
+    private final class Root extends RecursiveAction {
+        @Override protected void compute() {
+            for (int c = 1; c < chunks; c++) { tasks[c].reinitialize(); tasks[c].fork(); }
+            job.run(0);
+            for (int c = chunks - 1; c >= 1; c--) tasks[c].join();
+        }
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+        private final int chunk;
+        ChunkTask(int chunk) { this.chunk = chunk; }
+        @Override protected void compute() { job.run(chunk); }
+    }
+}
@@ -0,0 +1,72 @@
+package com.rgs.galaxyinvaders.threads;
+
+import java.util.concurrent.locks.LockSupport;
+
+import com.rgs.galaxyinvaders.world.SimDriver;
+import com.rgs.galaxyinvaders.world.SimulationLoop;
+
+/**
+ * Ticks a {@link SimulationLoop} on a dedicated thread, so the next tick runs while the GL thread draws the last
+ * snapshot instead of before it. Between ticks the thread parks until the next step is due; while the loop is not
+ * running (paused, game over) it parks with no deadline until {@link #wake} or {@link #stop}, so idle screens cost
+ * no wake-ups.
+ * Anything the world throws ends the thread and is rethrown on the GL thread by {@link SimulationLoop#frame}.
+ */
+public class SimThreadDriver implements SimDriver {
+    private static final long MIN_PARK_NANOS = 250_000L;
+
+    private Thread thread;
+    private volatile boolean stopping;
+
+    @Override public boolean isThreaded() { return true; }
+
+    @Override
+    public void start(final SimulationLoop loop) {
+        stop();
+        stopping = false;
+        thread = new Thread(new Runnable() {
+            @Override public void run() { tick(loop); }
+        }, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void tick(SimulationLoop loop) {
+        try {
+            long last = System.nanoTime();
+            while (!stopping) {
+                if (!loop.isRunning()) {
+                    LockSupport.park(this); // a spurious return just comes round again
+                    last = System.nanoTime(); // the idle gap is not simulation time
+                    continue;
+                }
+                long now = System.nanoTime();
+                loop.advance((now - last) / 1e9f);
+                last = now;
+                LockSupport.parkNanos(Math.max(MIN_PARK_NANOS, (long) (loop.timeToNextStep() * 1e9f)));
+            }
+        } catch (Throwable t) {
+            loop.fail(t);
+        }
+    }
+
+    @Override
+    public void wake() {
+        Thread t = thread;
+        if (t != null) LockSupport.unpark(t);
+    }
+
+    @Override
+    public void stop() {
+        Thread t = thread;
+        if (t == null) return;
+        stopping = true;
+        LockSupport.unpark(t);
+        boolean interrupted = false;
+        while (t.isAlive()) {
+            try { t.join(); } catch (InterruptedException e) { interrupted = true; }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+        thread = null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.rgs.galaxyinvaders.soak;
+
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.world.InputSource;
+import com.rgs.galaxyinvaders.world.SimRandom;
+
+/** Input scripts for headless sessions. Each instance belongs to one session; none of them share state. */
+final class SoakInputs {
+    private SoakInputs() {}
+
+    static InputSource create(String kind, long seed) {
+        if ("idle".equals(kind)) return InputSource.NONE;
+        if ("sweep".equals(kind)) return new Sweep();
+        if ("random".equals(kind)) return new Mashing(seed);
+        throw new IllegalArgumentException("Unknown input '" + kind + "' (idle, sweep, random)");
+    }
+
+    /** Holds fire and sweeps wall to wall, about two seconds per pass. */
+    static final class Sweep implements InputSource {
+        private int tick = 0;
+        @Override public void nextTick() { tick++; }
+        @Override public float moveAxis() { return (tick / (int) (Constants.SIM_HZ * 2f)) % 2 == 0 ? 1f : -1f; }
+        @Override public boolean fire() { return true; }
+    }
+
+    /** Button mashing: picks a new stick position and trigger state every few ticks. */
+    static final class Mashing implements InputSource {
+        private final SimRandom random;
+        private int hold = 0;
+        private float axis = 0f;
+        private boolean fire = false;
+
+        Mashing(long seed) { random = new SimRandom(seed ^ 0x1F2E3D4C5B6A7988L); }
+
+        @Override public void nextTick() {
+            if (--hold > 0) return;
+            hold = random.range(4, 60);
+            axis = random.range(0, 2) - 1;
+            fire = random.chance(0.8f);
+        }
+        @Override public float moveAxis() { return axis; }
+        @Override public boolean fire() { return fire; }
+    }
+}
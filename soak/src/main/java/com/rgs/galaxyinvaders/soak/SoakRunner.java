@@ -0,0 +1,110 @@
+package com.rgs.galaxyinvaders.soak;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import com.rgs.galaxyinvaders.pattern.BossPatterns;
+
+/**
+ * Plays thousands of independent sessions across every core and reports throughput, tick cost
+ * percentiles, the largest entity counts seen and any exceptions (with the seed to reproduce them).
+ *
+ * <pre>
+ * --sessions N   sessions to play (default 1000)
+ * --threads N    worker threads (default: available processors)
+ * --max-ticks N  per-session tick cap (default 10 simulated minutes)
+ * --seed N       base seed; session i uses seed + i (default 1)
+ * --input KIND   idle | sweep | random (default random)
+ * --patterns F   boss pattern script (default assets/boss-patterns.json)
+ * --bullet-hell  play the bullet hell tier, invulnerable as in the game
+ * --sim-threads N  also split each session's large loops over a shared pool of N threads (default 0: off)
+ * </pre>
+ */
+public final class SoakRunner {
+    private static final int MAX_REPORTED_FAILURES = 10;
+
+    private SoakRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        int sessions = 1000, threads = Runtime.getRuntime().availableProcessors(), maxTicks = 120 * 60 * 10;
+        int simThreads = 0;
+        boolean bulletHell = false;
+        long seed = 1L;
+        String input = "random", patternsFile = "assets/" + BossPatterns.FILE;
+        for (int i = 0; i < args.length; i++) {
+            String a = args[i];
+            if ("--sessions".equals(a)) sessions = Integer.parseInt(args[++i]);
+            else if ("--threads".equals(a)) threads = Integer.parseInt(args[++i]);
+            else if ("--max-ticks".equals(a)) maxTicks = Integer.parseInt(args[++i]);
+            else if ("--seed".equals(a)) seed = Long.parseLong(args[++i]);
+            else if ("--input".equals(a)) input = args[++i];
+            else if ("--patterns".equals(a)) patternsFile = args[++i];
+            else if ("--bullet-hell".equals(a)) bulletHell = true;
+            else if ("--sim-threads".equals(a)) simThreads = Integer.parseInt(args[++i]);
+            else throw new IllegalArgumentException("Unknown option " + a);
+        }
+        SoakInputs.create(input, seed); // fail fast on a bad --input
+        BossPatterns patterns = BossPatterns.parse(new String(Files.readAllBytes(Paths.get(patternsFile)), StandardCharsets.UTF_8));
+
+        System.out.printf(Locale.ROOT, "Soak: %d sessions, %d threads, input=%s, cap=%d ticks, seeds %d..%d%s%s%n",
+            sessions, threads, input, maxTicks, seed, seed + sessions - 1,
+            bulletHell ? ", bullet hell" : "", simThreads > 0 ? ", " + simThreads + " sim threads" : "");
+        ForkJoinPool simPool = simThreads > 0 ? new ForkJoinPool(simThreads) : null;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CompletionService<SoakSession> done = new ExecutorCompletionService<>(pool);
+        long start = System.nanoTime();
+        for (int i = 0; i < sessions; i++) done.submit(new SoakSession(seed + i, input, patterns, bulletHell, simPool, maxTicks));
+
+        TickHistogram tickCost = new TickHistogram();
+        List<SoakSession> failures = new ArrayList<>();
+        long ticks = 0, scoreSum = 0;
+        int gameOvers = 0, maxWave = 0, maxBosses = 0;
+        int maxEnemies = 0, maxPlayerBullets = 0, maxEnemyBullets = 0, maxPowerUps = 0;
+        for (int i = 0; i < sessions; i++) {
+            SoakSession s = done.take().get();
+            tickCost.add(s.tickCost);
+            ticks += s.ticks;
+            if (s.failure != null) { failures.add(s); continue; }
+            scoreSum += s.score;
+            if (s.gameOver) gameOvers++;
+            maxWave = Math.max(maxWave, s.wave);
+            maxBosses = Math.max(maxBosses, s.bossesDefeated);
+            maxEnemies = Math.max(maxEnemies, s.maxEnemies);
+            maxPlayerBullets = Math.max(maxPlayerBullets, s.maxPlayerBullets);
+            maxEnemyBullets = Math.max(maxEnemyBullets, s.maxEnemyBullets);
+            maxPowerUps = Math.max(maxPowerUps, s.maxPowerUps);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+        if (simPool != null) simPool.shutdown();
+
+        int ok = sessions - failures.size();
+        System.out.printf(Locale.ROOT, "Wall time        %.2f s%n", seconds);
+        System.out.printf(Locale.ROOT, "Sessions/sec     %.1f%n", sessions / seconds);
+        System.out.printf(Locale.ROOT, "Ticks/sec        %.0f (%d ticks, %.1f sim-hours)%n", ticks / seconds, ticks, ticks / 120.0 / 3600.0);
+        System.out.printf(Locale.ROOT, "Tick cost        p50 %.2f us, p99 %.2f us, max %.2f us%n",
+            tickCost.percentile(0.50) / 1e3, tickCost.percentile(0.99) / 1e3, tickCost.getMax() / 1e3);
+        System.out.printf(Locale.ROOT, "Outcome          %d game over, %d hit the tick cap, avg score %.0f, max wave %d, max bosses %d%n",
+            gameOvers, ok - gameOvers, ok > 0 ? (double) scoreSum / ok : 0.0, maxWave, maxBosses);
+        System.out.printf(Locale.ROOT, "Max entities     enemies %d, player bullets %d, enemy bullets %d, powerups %d%n",
+            maxEnemies, maxPlayerBullets, maxEnemyBullets, maxPowerUps);
+        System.out.printf(Locale.ROOT, "Exceptions       %d%n", failures.size());
+        for (int i = 0; i < Math.min(MAX_REPORTED_FAILURES, failures.size()); i++) {
+            SoakSession s = failures.get(i);
+            System.out.printf(Locale.ROOT, "  seed %d after %d ticks: %s%n", s.seed, s.ticks, s.failure);
+            StackTraceElement[] trace = s.failure.getStackTrace();
+            for (int k = 0; k < Math.min(5, trace.length); k++) System.out.println("      at " + trace[k]);
+        }
+        if (!failures.isEmpty()) System.exit(1);
+    }
+}
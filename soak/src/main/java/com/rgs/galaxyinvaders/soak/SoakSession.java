@@ -0,0 +1,67 @@
+package com.rgs.galaxyinvaders.soak;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import com.rgs.galaxyinvaders.config.Constants;
+import com.rgs.galaxyinvaders.pattern.BossPatterns;
+import com.rgs.galaxyinvaders.threads.ForkJoinChunkRunner;
+import com.rgs.galaxyinvaders.world.GameWorld;
+import com.rgs.galaxyinvaders.world.ShipMetrics;
+
+/** One headless session: its own world, RNG and input, run flat out until game over or the tick cap. */
+final class SoakSession implements Callable<SoakSession> {
+    private static final float STEP = 1f / Constants.SIM_HZ;
+
+    final long seed;
+    private final String input;
+    private final BossPatterns patterns; // immutable, shared by every session
+    private final boolean bulletHell;
+    private final ForkJoinPool simPool;  // shared; null keeps the session single-threaded
+    private final int maxTicks;
+
+    TickHistogram tickCost; // ~128 KB, so only created once the session runs (all sessions are queued up front)
+    int ticks, score, wave, bossesDefeated;
+    int maxEnemies, maxPlayerBullets, maxEnemyBullets, maxPowerUps;
+    boolean gameOver;
+    Throwable failure;
+
+    SoakSession(long seed, String input, BossPatterns patterns, boolean bulletHell, ForkJoinPool simPool, int maxTicks) {
+        this.seed = seed;
+        this.input = input;
+        this.patterns = patterns;
+        this.bulletHell = bulletHell;
+        this.simPool = simPool;
+        this.maxTicks = maxTicks;
+    }
+
+    @Override
+    public SoakSession call() {
+        tickCost = new TickHistogram();
+        try {
+            GameWorld world = new GameWorld(new ShipMetrics(), seed);
+            world.setInput(SoakInputs.create(input, seed));
+            world.setBossPatterns(patterns);
+            world.setBulletHell(bulletHell);
+            world.setInvulnerable(bulletHell); // as in the game: the tier is only reachable alive
+            if (simPool != null) world.setChunkRunner(new ForkJoinChunkRunner(simPool));
+            while (ticks < maxTicks && !world.isGameOver()) {
+                long t0 = System.nanoTime();
+                world.update(STEP);
+                tickCost.record(System.nanoTime() - t0);
+                ticks++;
+                maxEnemies = Math.max(maxEnemies, world.getEnemies().size);
+                maxPlayerBullets = Math.max(maxPlayerBullets, world.getPlayerBullets().size);
+                maxEnemyBullets = Math.max(maxEnemyBullets, world.getEnemyBullets().size);
+                maxPowerUps = Math.max(maxPowerUps, world.getPowerUps().size);
+            }
+            score = world.getScore();
+            wave = world.getWave();
+            bossesDefeated = world.getBossesDefeated();
+            gameOver = world.isGameOver();
+        } catch (Throwable t) {
+            failure = t;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,40 @@
+package com.rgs.galaxyinvaders.soak;
+
+/**
+ * Fixed-resolution latency histogram: 250 ns buckets up to 4 ms, one overflow bucket beyond that.
+ * Recording never allocates; per-session histograms are merged once the session is done.
+ */
+final class TickHistogram {
+    static final long BUCKET_NANOS = 250;
+    private static final int BUCKETS = 16_000;
+
+    private final long[] counts = new long[BUCKETS + 1];
+    private long total = 0, max = 0;
+
+    void record(long nanos) {
+        int b = (int) Math.min(BUCKETS, nanos / BUCKET_NANOS);
+        counts[b]++;
+        total++;
+        if (nanos > max) max = nanos;
+    }
+
+    void add(TickHistogram other) {
+        for (int i = 0; i <= BUCKETS; i++) counts[i] += other.counts[i];
+        total += other.total;
+        max = Math.max(max, other.max);
+    }
+
+    /** Upper edge of the bucket holding quantile {@code q} (0..1), in nanoseconds; overflow reports the max. */
+    long percentile(double q) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(q * total), seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return (i + 1) * BUCKET_NANOS;
+        }
+        return max;
+    }
+
+    long getTotal() { return total; }
+    long getMax() { return max; }
+}
@@ -0,0 +1,181 @@
+package com.rgs.galaxyinvaders.tools;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RadialGradientPaint;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import javax.imageio.ImageIO;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+import com.rgs.galaxyinvaders.fx.ExplosionFrames;
+
+/**
+ * Packs every sprite the game draws into one atlas page: the PNGs at the root of {@code assets/}, plus the
+ * shapes the game used to generate at runtime (white pixel, bullet dot, powerup diamond, particle, UI skin),
+ * the baked explosion animations and the default UI font, so a whole frame can be drawn with a single texture bind.
+ * Run through {@code ./gradlew packAtlas}; prints the page fill ratio when done.
+ */
+public final class AtlasPacker {
+    public static final String ATLAS_NAME = "game";
+
+    private AtlasPacker() {}
+
+    public static void main(String[] args) throws IOException {
+        File assets = new File(args.length > 0 ? args[0] : "assets");
+        File out = new File(args.length > 1 ? args[1] : new File(assets, "atlas").getPath());
+        File staging = Files.createTempDirectory("atlas-src").toFile();
+        try {
+            stage(assets, staging, out);
+            TexturePacker.Settings settings = new TexturePacker.Settings();
+            settings.maxWidth = 2048;
+            settings.maxHeight = 2048;
+            settings.paddingX = settings.paddingY = 2;
+            settings.duplicatePadding = true;
+            settings.filterMin = Texture.TextureFilter.Linear;
+            settings.filterMag = Texture.TextureFilter.Linear;
+            settings.combineSubdirectories = true;
+            TexturePacker.process(settings, staging.getPath(), out.getPath(), ATLAS_NAME);
+            report(new File(out, ATLAS_NAME + ".atlas"), out);
+        } finally {
+            deleteTree(staging);
+        }
+    }
+
+    private static void stage(File assets, File staging, File out) throws IOException {
+        File[] pngs = assets.listFiles((dir, name) -> name.endsWith(".png"));
+        if (pngs != null) for (File png : pngs) Files.copy(png.toPath(), new File(staging, png.getName()).toPath());
+
+        write(staging, "white", solid(4, 4, Color.WHITE));
+        write(staging, "dot", dot(64));
+        write(staging, "diamond", diamond(64));
+        write(staging, "particle", particle(32));
+
+        // UI skin (same colours UiFactory used to generate)
+        write(staging, "ui/button-up",   solid(24, 24, new Color(0.18f, 0.22f, 0.30f, 0.95f)));
+        write(staging, "ui/button-over", solid(24, 24, new Color(0.22f, 0.26f, 0.36f, 0.95f)));
+        write(staging, "ui/button-down", solid(24, 24, new Color(0.12f, 0.16f, 0.24f, 0.95f)));
+        write(staging, "ui/checkbox-off", checkbox(false));
+        write(staging, "ui/checkbox-on",  checkbox(true));
+
+        // Explosion animations: explosion<variant>_<frame>, read back with TextureAtlas#findRegions
+        for (int v = 0; v < ExplosionFrames.VARIANTS; v++)
+            for (int f = 0; f < ExplosionFrames.FRAMES; f++) write(staging, "explosion" + v + "_" + f, explosionFrame(v, f));
+
+        // libGDX's built-in font: glyph page into the atlas, .fnt next to it
+        copyResource("com/badlogic/gdx/utils/lsans-15.png", new File(staging, "font.png"));
+        out.mkdirs();
+        copyResource("com/badlogic/gdx/utils/lsans-15.fnt", new File(out, "font.fnt"));
+    }
+
+    private static BufferedImage solid(int w, int h, Color c) {
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setColor(c);
+        g.fillRect(0, 0, w, h);
+        g.dispose();
+        return img;
+    }
+
+    private static BufferedImage dot(int s) {
+        BufferedImage img = new BufferedImage(s, s, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = smooth(img);
+        g.setColor(Color.WHITE);
+        g.fillOval(1, 1, s - 2, s - 2);
+        g.dispose();
+        return img;
+    }
+
+    private static BufferedImage diamond(int s) {
+        BufferedImage img = new BufferedImage(s, s, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = smooth(img);
+        g.setColor(Color.WHITE);
+        int c = s / 2;
+        g.fillPolygon(new int[] { c, s, c, 0 }, new int[] { 0, c, s, c }, 4);
+        g.dispose();
+        return img;
+    }
+
+    /** Soft round spark, white so it can be tinted. */
+    private static BufferedImage particle(int s) {
+        BufferedImage img = new BufferedImage(s, s, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = smooth(img);
+        g.setPaint(new RadialGradientPaint(s / 2f, s / 2f, s / 2f, new float[] { 0f, 0.4f, 1f },
+            new Color[] { Color.WHITE, new Color(1f, 1f, 1f, 0.6f), new Color(1f, 1f, 1f, 0f) }));
+        g.fillRect(0, 0, s, s);
+        g.dispose();
+        return img;
+    }
+
+    /** 38x38 box outline; the "on" variant adds the green check. */
+    private static BufferedImage checkbox(boolean checked) {
+        int s = 38;
+        BufferedImage img = new BufferedImage(s, s, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = img.createGraphics();
+        g.setColor(new Color(1f, 1f, 1f, 0.95f));
+        g.drawRect(1, 1, s - 3, s - 3);
+        if (checked) {
+            g.setColor(new Color(0.3f, 1f, 0.4f, 1f));
+            g.setStroke(new BasicStroke(3f));
+            g.drawLine(8, 21, 16, 29);
+            g.drawLine(16, 29, 30, 13);
+        }
+        g.dispose();
+        return img;
+    }
+
+    private static BufferedImage explosionFrame(int variant, int frame) {
+        int s = ExplosionFrames.SIZE;
+        int[] rgba = new int[s * s];
+        ExplosionFrames.render(variant, frame, rgba);
+        BufferedImage img = new BufferedImage(s, s, BufferedImage.TYPE_INT_ARGB);
+        for (int i = 0; i < rgba.length; i++) img.setRGB(i % s, i / s, (rgba[i] << 24) | (rgba[i] >>> 8));
+        return img;
+    }
+
+    private static Graphics2D smooth(BufferedImage img) {
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        return g;
+    }
+
+    private static void write(File staging, String name, BufferedImage img) throws IOException {
+        File f = new File(staging, name + ".png");
+        f.getParentFile().mkdirs();
+        ImageIO.write(img, "png", f);
+    }
+
+    private static void copyResource(String path, File to) throws IOException {
+        try (InputStream in = AtlasPacker.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) throw new IOException("Missing classpath resource " + path);
+            Files.copy(in, to.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void report(File atlasFile, File dir) {
+        TextureAtlasData data = new TextureAtlasData(new FileHandle(atlasFile), new FileHandle(dir), false);
+        long used = 0, total = 0;
+        for (TextureAtlasData.Region r : data.getRegions()) used += (long) r.width * r.height;
+        for (TextureAtlasData.Page p : data.getPages()) total += (long) p.width * p.height;
+        System.out.printf("Packed %d regions into %d page(s) (%.0fx%.0f), fill ratio %.1f%%%n",
+            data.getRegions().size, data.getPages().size, data.getPages().first().width, data.getPages().first().height,
+            total > 0 ? 100.0 * used / total : 0.0);
+        if (data.getPages().size > 1) System.out.println("WARNING: more than one page, the scene will need several texture binds");
+    }
+
+    private static void deleteTree(File f) {
+        File[] children = f.listFiles();
+        if (children != null) for (File c : children) deleteTree(c);
+        f.delete();
+    }
+}